@@ -0,0 +1,45 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.benchmarks;
+
+/**
+ * Titles shared by the benchmarks, from a plain word to a long mix of legacy and hex codes.
+ */
+final class BenchmarkTexts {
+
+    static final String PLAIN = "Quest completed";
+    static final String LEGACY = "&6&lQuest &r&acompleted&7: &fThe \"Lost\" Mine";
+    static final String HEX = "&#FFAA00Quest &#00ffaacompleted &#5555FF!";
+    static final String MIXED = "&8[&#FFAA00&lQuests&8] &r&7You finished &e&nThe Lost Mine&r&7 and earned "
+            + "&a&o250 coins&r&7, &#55FFFF3 gems&7 and the &d&k!!&r &5&lMiner&r &7title.";
+
+    static final String MINI_MESSAGE = "<gold><bold>Quest</bold> <green>completed</green><gray>: <white>The Lost Mine";
+
+    private BenchmarkTexts() {
+    }
+
+    static String byName(String name) {
+        return switch (name) {
+            case "plain" -> PLAIN;
+            case "legacy" -> LEGACY;
+            case "hex" -> HEX;
+            case "mixed" -> MIXED;
+            default -> throw new IllegalArgumentException("Unknown text: " + name);
+        };
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.benchmarks;
+
+import dev.wuason.toastapi.utils.Colors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class ColorsBenchmark {
+
+    @Param({"plain", "legacy", "hex", "mixed"})
+    public String text;
+
+    private String input;
+
+    @Setup
+    public void setup() {
+        input = BenchmarkTexts.byName(text);
+    }
+
+    @Benchmark
+    public String toJsonTextComponent() {
+        return Colors.toJsonTextComponent(input);
+    }
+}
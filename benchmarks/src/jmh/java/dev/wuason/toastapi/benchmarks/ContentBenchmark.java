@@ -0,0 +1,75 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.benchmarks;
+
+import dev.wuason.toastapi.content.ComponentContent;
+import dev.wuason.toastapi.content.JsonContent;
+import dev.wuason.toastapi.content.MiniMessageContent;
+import dev.wuason.toastapi.content.SpigotContent;
+import dev.wuason.toastapi.content.TextContent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Serialization cost of every {@code IContent}. Contents memoize their JSON, so each
+ * invocation builds a new instance to measure the first {@code getContent()} call.
+ */
+@State(Scope.Benchmark)
+public class ContentBenchmark {
+
+    private Component component;
+    private String json;
+
+    @Setup
+    public void setup() {
+        component = Component.text("Quest", NamedTextColor.GOLD, TextDecoration.BOLD)
+                .append(Component.space())
+                .append(Component.text("completed", NamedTextColor.GREEN));
+        json = new TextContent(BenchmarkTexts.LEGACY).getContent();
+    }
+
+    @Benchmark
+    public String textContent() {
+        return new TextContent(BenchmarkTexts.LEGACY).getContent();
+    }
+
+    @Benchmark
+    public String spigotContent() {
+        return new SpigotContent(BenchmarkTexts.LEGACY).getContent();
+    }
+
+    @Benchmark
+    public String miniMessageContent() {
+        return new MiniMessageContent(BenchmarkTexts.MINI_MESSAGE).getContent();
+    }
+
+    @Benchmark
+    public String componentContent() {
+        return new ComponentContent(component).getContent();
+    }
+
+    @Benchmark
+    public String jsonContent() {
+        return new JsonContent(json).getContent();
+    }
+}
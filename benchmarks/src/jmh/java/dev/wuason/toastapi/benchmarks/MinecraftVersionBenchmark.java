@@ -0,0 +1,52 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.benchmarks;
+
+import dev.wuason.toastapi.utils.EMinecraftVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class MinecraftVersionBenchmark {
+
+    public String knownName = "1.21.4";
+    public String unknownName = "0.0.0";
+    public int knownNumber = EMinecraftVersion.V1_21_4.getVersionNumber();
+    public int unknownNumber = -1;
+
+    @Benchmark
+    public EMinecraftVersion fromStringHit() {
+        return EMinecraftVersion.fromString(knownName);
+    }
+
+    @Benchmark
+    public EMinecraftVersion fromStringMiss() {
+        return EMinecraftVersion.fromString(unknownName);
+    }
+
+    @Benchmark
+    public EMinecraftVersion fromVersionNumberHit() {
+        return EMinecraftVersion.fromVersionNumber(knownNumber);
+    }
+
+    @Benchmark
+    public EMinecraftVersion fromVersionNumberMiss() {
+        return EMinecraftVersion.fromVersionNumber(unknownNumber);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.benchmarks;
+
+import dev.wuason.toastapi.SimpleToast;
+import dev.wuason.toastapi.ToastTemplate;
+import dev.wuason.toastapi.content.IContent;
+import dev.wuason.toastapi.content.TextContent;
+import dev.wuason.toastapi.nms.EToastType;
+import dev.wuason.toastapi.nms.ICompiledToast;
+import dev.wuason.toastapi.nms.IToastWrapper;
+import dev.wuason.toastapi.nms.ToastWrapperRegistry;
+import dev.wuason.toastapi.protocol.PlayerVersionProvider;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Dispatch overhead of {@link SimpleToast} without a server: the NMS wrapper is replaced by
+ * a stub that only hands the title to a {@link Blackhole}, so the numbers cover protocol
+ * checks, content serialization and the API itself.
+ */
+@State(Scope.Benchmark)
+public class SimpleToastBenchmark {
+
+    private static final int TOAST_PROTOCOL = 774;
+
+    @Param({"1", "100"})
+    public int players;
+
+    private Player player;
+    private List<Player> recipients;
+    private IContent cachedTitle;
+    private ToastTemplate template;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        ToastWrapperRegistry.set(new StubToastWrapper(blackhole));
+        PlayerVersionProvider.set(ignored -> TOAST_PROTOCOL);
+
+        recipients = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            recipients.add(createPlayer());
+        }
+        player = recipients.get(0);
+
+        cachedTitle = new TextContent(BenchmarkTexts.LEGACY);
+        template = SimpleToast.compile(cachedTitle, EToastType.GOAL);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ToastWrapperRegistry.set(null);
+        PlayerVersionProvider.reset();
+    }
+
+    @Benchmark
+    public void sendToastFreshContent() {
+        SimpleToast.sendToast(player, new TextContent(BenchmarkTexts.LEGACY), EToastType.GOAL);
+    }
+
+    @Benchmark
+    public void sendToastCachedContent() {
+        SimpleToast.sendToast(player, cachedTitle, EToastType.GOAL);
+    }
+
+    @Benchmark
+    public void sendToastToAll() {
+        SimpleToast.sendToast(recipients, cachedTitle, EToastType.GOAL);
+    }
+
+    @Benchmark
+    public void sendTemplateToAll() {
+        SimpleToast.sendToast(recipients, template);
+    }
+
+    private static Player createPlayer() {
+        UUID uuid = UUID.randomUUID();
+        return (Player) Proxy.newProxyInstance(
+                Player.class.getClassLoader(),
+                new Class<?>[]{Player.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getUniqueId" -> uuid;
+                    case "isOnline" -> true;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                }
+        );
+    }
+
+    private record StubToastWrapper(Blackhole blackhole) implements IToastWrapper {
+
+        @Override
+        public ICompiledToast compile(ItemStack icon, String title, EToastType toastType,
+                                      String namespace, String path) {
+            return player -> {
+                blackhole.consume(player);
+                blackhole.consume(title);
+            };
+        }
+    }
+}
@@ -26,6 +26,7 @@ dependencies {
     compileOnly(libs.packetevents)
 
     testImplementation(libs.junit.jupiter)
+    testImplementation(libs.gson)
     testRuntimeOnly(libs.junit.launcher)
 }
 
@@ -18,37 +18,118 @@
 package dev.wuason.toastapi;
 
 import dev.wuason.toastapi.content.IContent;
+import dev.wuason.toastapi.metrics.ProtocolLookupEvent;
+import dev.wuason.toastapi.metrics.ToastMetrics;
+import dev.wuason.toastapi.metrics.ToastSendEvent;
 import dev.wuason.toastapi.nms.EToastType;
+import dev.wuason.toastapi.nms.ICompiledToast;
 import dev.wuason.toastapi.nms.IToastWrapper;
-import dev.wuason.toastapi.nms.NmsModuleLoader;
+import dev.wuason.toastapi.nms.ToastWrapperRegistry;
 import dev.wuason.toastapi.protocol.PlayerVersionProvider;
-import dev.wuason.toastapi.utils.EMinecraftVersion;
+import dev.wuason.toastapi.utils.AsyncExecutors;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
 public class SimpleToast {
 
     private static final String DEFAULT_NAMESPACE = "simpletoastapi";
     private static final String DEFAULT_PATH = "toastannounce";
     private static final int MIN_TOAST_PROTOCOL = 754;
 
+    private static volatile Executor asyncExecutor = null;
+    private static volatile boolean preEncodedSend = false;
+    private static ExecutorService defaultExecutor = null;
+
     private SimpleToast() {
     }
 
+    /**
+     * Hooks SimpleToast into the lifecycle of {@code plugin}. Call it from {@code onEnable}.
+     * Sending toasts works without it, but per-session caches need the plugin's listeners.
+     *
+     * <p>The NMS wrapper is loaded and the {@link ToastRuntime} is built here as well, so the
+     * first toast does not pay for them, and the {@link dev.wuason.toastapi.metrics.ToastMetricsMXBean}
+     * is registered.
+     *
+     * @param plugin the plugin that shades SimpleToast
+     */
+    public static void enable(@NotNull Plugin plugin) {
+        PlayerVersionProvider.enableCache(plugin);
+        ToastWrapperRegistry.preload();
+        ToastQueue.enable(plugin);
+        ToastMetrics.registerMBean(plugin.getName());
+        ToastRuntime.initialize();
+    }
+
+    /**
+     * Releases everything registered by {@link #enable(Plugin)}. Call it from {@code onDisable}.
+     */
+    public static void disable() {
+        PlayerVersionProvider.disableCache();
+        ToastQueue.disable();
+        ToastMetrics.unregisterMBean();
+        shutdownDefaultExecutor();
+    }
+
+    /**
+     * Sets the executor used by the {@code sendToastAsync} methods. By default a virtual
+     * thread per toast is used when available, or a small daemon thread pool otherwise.
+     *
+     * @param executor the executor to use, or {@code null} to go back to the default one
+     */
+    public static void setAsyncExecutor(@Nullable Executor executor) {
+        synchronized (SimpleToast.class) {
+            if (executor != null) {
+                shutdownDefaultExecutor();
+            }
+            asyncExecutor = executor;
+        }
+    }
+
+    /**
+     * Turns the pre-encoded send path on or off. It is off by default.
+     *
+     * <p>When on, toasts sent to several players and every {@link ToastTemplate} are encoded
+     * once and the bytes are written to each player's channel, which skips ProtocolLib and
+     * packetevents listeners. See {@link ICompiledToast#sendEncoded(Collection)}.
+     *
+     * @param enabled {@code true} to write pre-encoded packets
+     */
+    public static void setPreEncodedSend(boolean enabled) {
+        preEncodedSend = enabled;
+    }
+
+    public static boolean isPreEncodedSend() {
+        return preEncodedSend;
+    }
+
     public static void sendToast(@Nullable ItemStack icon,
                                  @NotNull Player player,
                                  @NotNull IContent title,
                                  @NotNull EToastType toastType,
                                  @NotNull String namespace,
                                  @NotNull String path) {
+        ToastSendEvent event = new ToastSendEvent();
+        event.begin();
         IToastWrapper wrapper = resolveWrapper(player);
         if (wrapper == null) {
             return;
         }
-        wrapper.sendToast(icon, player, title.getContent(), toastType, namespace, path);
+        ICompiledToast compiledToast = wrapper.compile(icon, title, toastType, namespace, path);
+        compiledToast.send(player);
+        ToastMetrics.recordSent(toastType, compiledToast, 1);
+        event.complete(player, 1, title, toastType);
     }
 
     public static void sendToast(@NotNull Player player,
@@ -82,50 +163,325 @@ public class SimpleToast {
         sendToast(null, player, title, EToastType.TASK);
     }
 
-    @Nullable
-    private static IToastWrapper resolveWrapper(@NotNull Player player) {
-        int protocol = PlayerVersionProvider.get().getProtocol(player);
-        if (protocol < MIN_TOAST_PROTOCOL) {
-            return null;
+    public static void sendToast(@Nullable ItemStack icon,
+                                 @NotNull Collection<? extends Player> players,
+                                 @NotNull IContent title,
+                                 @NotNull EToastType toastType,
+                                 @NotNull String namespace,
+                                 @NotNull String path) {
+        ToastSendEvent event = new ToastSendEvent();
+        event.begin();
+        ToastRuntime runtime = ToastRuntime.get();
+        List<Player> recipients = filterSupported(runtime, players);
+        if (recipients.isEmpty()) {
+            return;
         }
 
-        EMinecraftVersion serverVersion = EMinecraftVersion.getServerVersionSelected();
-        EMinecraftVersion.NMSVersion nmsVersion = serverVersion.getNMSVersion();
+        IToastWrapper wrapper = runtime.getWrapper();
+        if (wrapper == null) {
+            return;
+        }
+        ICompiledToast compiledToast = wrapper.compile(icon, title, toastType, namespace, path);
+        if (preEncodedSend && recipients.size() > 1) {
+            compiledToast.sendEncoded(recipients);
+        } else {
+            compiledToast.send(recipients);
+        }
+        ToastMetrics.recordSent(toastType, compiledToast, recipients.size());
+        event.complete(singleOrNull(recipients), recipients.size(), title, toastType);
+    }
 
-        try {
-            if (nmsVersion == EMinecraftVersion.NMSVersion.V26_1) {
-                return resolveDynamicWrapper("v26_1", "dev.wuason.toastapi.nms.v26_1.ToastImpl");
-            }
-            if (nmsVersion == EMinecraftVersion.NMSVersion.V26_1_1) {
-                return resolveDynamicWrapper("v26_1_1", "dev.wuason.toastapi.nms.v26_1_1.ToastImpl");
-            }
-            if (nmsVersion == EMinecraftVersion.NMSVersion.V26_1_2) {
-                return resolveDynamicWrapper("v26_1_2", "dev.wuason.toastapi.nms.v26_1_2.ToastImpl");
+    public static void sendToast(@Nullable ItemStack icon,
+                                 @NotNull Collection<? extends Player> players,
+                                 @NotNull IContent title,
+                                 @NotNull EToastType toastType) {
+        sendToast(icon, players, title, toastType, DEFAULT_NAMESPACE, DEFAULT_PATH);
+    }
+
+    public static void sendToast(@NotNull Collection<? extends Player> players,
+                                 @NotNull IContent title,
+                                 @NotNull EToastType toastType) {
+        sendToast(null, players, title, toastType);
+    }
+
+    public static void sendToast(@NotNull Collection<? extends Player> players, @NotNull IContent title) {
+        sendToast(null, players, title, EToastType.TASK);
+    }
+
+    public static void broadcastToast(@Nullable ItemStack icon,
+                                      @NotNull IContent title,
+                                      @NotNull EToastType toastType,
+                                      @NotNull String namespace,
+                                      @NotNull String path) {
+        sendToast(icon, Bukkit.getOnlinePlayers(), title, toastType, namespace, path);
+    }
+
+    public static void broadcastToast(@Nullable ItemStack icon,
+                                      @NotNull IContent title,
+                                      @NotNull EToastType toastType) {
+        broadcastToast(icon, title, toastType, DEFAULT_NAMESPACE, DEFAULT_PATH);
+    }
+
+    public static void broadcastToast(@NotNull IContent title, @NotNull EToastType toastType) {
+        broadcastToast(null, title, toastType);
+    }
+
+    public static void broadcastToast(@NotNull IContent title) {
+        broadcastToast(null, title, EToastType.TASK);
+    }
+
+    @NotNull
+    public static ToastTemplate compile(@Nullable ItemStack icon,
+                                        @NotNull IContent title,
+                                        @NotNull EToastType toastType,
+                                        @NotNull String namespace,
+                                        @NotNull String path) {
+        IToastWrapper wrapper = ToastRuntime.get().getWrapper();
+        if (wrapper == null) {
+            return new ToastTemplate(null, toastType);
+        }
+        return new ToastTemplate(wrapper.compile(icon, title, toastType, namespace, path), toastType);
+    }
+
+    @NotNull
+    public static ToastTemplate compile(@Nullable ItemStack icon,
+                                        @NotNull IContent title,
+                                        @NotNull EToastType toastType) {
+        return compile(icon, title, toastType, DEFAULT_NAMESPACE, DEFAULT_PATH);
+    }
+
+    @NotNull
+    public static ToastTemplate compile(@NotNull IContent title, @NotNull EToastType toastType) {
+        return compile(null, title, toastType);
+    }
+
+    @NotNull
+    public static ToastTemplate compile(@NotNull IContent title) {
+        return compile(null, title, EToastType.TASK);
+    }
+
+    public static void sendToast(@NotNull Player player, @NotNull ToastTemplate template) {
+        ToastSendEvent event = new ToastSendEvent();
+        event.begin();
+        ICompiledToast compiledToast = template.getCompiledToast();
+        if (compiledToast == null || !isProtocolSupported(ToastRuntime.get(), player)) {
+            return;
+        }
+        if (preEncodedSend) {
+            compiledToast.sendEncoded(List.of(player));
+        } else {
+            compiledToast.send(player);
+        }
+        ToastMetrics.recordSent(template.getToastType(), compiledToast, 1);
+        event.complete(player, 1, null, template.getToastType());
+    }
+
+    public static void sendToast(@NotNull Collection<? extends Player> players, @NotNull ToastTemplate template) {
+        ToastSendEvent event = new ToastSendEvent();
+        event.begin();
+        ICompiledToast compiledToast = template.getCompiledToast();
+        if (compiledToast == null) {
+            return;
+        }
+
+        List<Player> recipients = filterSupported(ToastRuntime.get(), players);
+        if (!recipients.isEmpty()) {
+            if (preEncodedSend) {
+                compiledToast.sendEncoded(recipients);
+            } else {
+                compiledToast.send(recipients);
             }
+            ToastMetrics.recordSent(template.getToastType(), compiledToast, recipients.size());
+            event.complete(singleOrNull(recipients), recipients.size(), null, template.getToastType());
+        }
+    }
+
+    public static void broadcastToast(@NotNull ToastTemplate template) {
+        sendToast(Bukkit.getOnlinePlayers(), template);
+    }
+
+    /**
+     * Builds and sends the toast on the async executor, so content serialization, component
+     * parsing and packet construction stay off the calling thread. Only the final packets
+     * are handed to the player's connection.
+     *
+     * @return a future completed once the packets have been queued, or completed
+     * exceptionally if building the toast failed
+     */
+    @NotNull
+    public static CompletableFuture<Void> sendToastAsync(@Nullable ItemStack icon,
+                                                         @NotNull Player player,
+                                                         @NotNull IContent title,
+                                                         @NotNull EToastType toastType,
+                                                         @NotNull String namespace,
+                                                         @NotNull String path) {
+        ItemStack iconCopy = icon == null ? null : icon.clone();
+        return CompletableFuture.runAsync(
+                () -> sendToast(iconCopy, player, title, toastType, namespace, path),
+                asyncExecutor()
+        );
+    }
+
+    @NotNull
+    public static CompletableFuture<Void> sendToastAsync(@Nullable ItemStack icon,
+                                                         @NotNull Player player,
+                                                         @NotNull IContent title,
+                                                         @NotNull EToastType toastType) {
+        return sendToastAsync(icon, player, title, toastType, DEFAULT_NAMESPACE, DEFAULT_PATH);
+    }
+
+    @NotNull
+    public static CompletableFuture<Void> sendToastAsync(@NotNull Player player,
+                                                         @NotNull IContent title,
+                                                         @NotNull EToastType toastType) {
+        return sendToastAsync(null, player, title, toastType);
+    }
+
+    @NotNull
+    public static CompletableFuture<Void> sendToastAsync(@NotNull Player player, @NotNull IContent title) {
+        return sendToastAsync(null, player, title, EToastType.TASK);
+    }
+
+    @NotNull
+    public static CompletableFuture<Void> sendToastAsync(@Nullable ItemStack icon,
+                                                         @NotNull Collection<? extends Player> players,
+                                                         @NotNull IContent title,
+                                                         @NotNull EToastType toastType,
+                                                         @NotNull String namespace,
+                                                         @NotNull String path) {
+        ItemStack iconCopy = icon == null ? null : icon.clone();
+        List<Player> recipients = List.copyOf(players);
+        return CompletableFuture.runAsync(
+                () -> sendToast(iconCopy, recipients, title, toastType, namespace, path),
+                asyncExecutor()
+        );
+    }
+
+    @NotNull
+    public static CompletableFuture<Void> sendToastAsync(@Nullable ItemStack icon,
+                                                         @NotNull Collection<? extends Player> players,
+                                                         @NotNull IContent title,
+                                                         @NotNull EToastType toastType) {
+        return sendToastAsync(icon, players, title, toastType, DEFAULT_NAMESPACE, DEFAULT_PATH);
+    }
+
+    @NotNull
+    public static CompletableFuture<Void> sendToastAsync(@NotNull Collection<? extends Player> players,
+                                                         @NotNull IContent title,
+                                                         @NotNull EToastType toastType) {
+        return sendToastAsync(null, players, title, toastType);
+    }
+
+    /**
+     * Queues the toast on the player's {@link ToastQueue} instead of sending it right away,
+     * so bursts of toasts reach the client spaced out. Identical pending toasts are merged.
+     * Without {@link #enable(Plugin)} there is no queue and the toast is sent immediately.
+     *
+     * @return {@code false} if the player's queue is full and the toast was dropped
+     */
+    public static boolean queueToast(@Nullable ItemStack icon,
+                                     @NotNull Player player,
+                                     @NotNull IContent title,
+                                     @NotNull EToastType toastType,
+                                     @NotNull String namespace,
+                                     @NotNull String path) {
+        if (!ToastQueue.isEnabled()) {
+            sendToast(icon, player, title, toastType, namespace, path);
+            return true;
+        }
+
+        return ToastQueue.offer(player, new ToastQueue.PendingToast(
+                icon == null ? null : icon.clone(),
+                title.getContent(),
+                toastType,
+                namespace,
+                path
+        ));
+    }
+
+    public static boolean queueToast(@Nullable ItemStack icon,
+                                     @NotNull Player player,
+                                     @NotNull IContent title,
+                                     @NotNull EToastType toastType) {
+        return queueToast(icon, player, title, toastType, DEFAULT_NAMESPACE, DEFAULT_PATH);
+    }
 
-            String className = String.format(
-                    "dev.wuason.toastapi.nms.v%s.ToastImpl",
-                    nmsVersion.getVersionName()
-            );
+    public static boolean queueToast(@NotNull Player player, @NotNull IContent title, @NotNull EToastType toastType) {
+        return queueToast(null, player, title, toastType);
+    }
+
+    public static boolean queueToast(@NotNull Player player, @NotNull IContent title) {
+        return queueToast(null, player, title, EToastType.TASK);
+    }
 
-            return (IToastWrapper) Class.forName(className)
-                    .getDeclaredConstructors()[0]
-                    .newInstance();
-        } catch (Exception e) {
-            Bukkit.getLogger().severe("[SimpleToastApi] Failed to load wrapper: " + e.getMessage());
-            e.printStackTrace();
+    @NotNull
+    private static Executor asyncExecutor() {
+        Executor executor = asyncExecutor;
+        if (executor != null) {
+            return executor;
+        }
 
-            if (e.getCause() != null) {
-                e.getCause().printStackTrace();
+        synchronized (SimpleToast.class) {
+            if (asyncExecutor == null) {
+                // Going back to the default after setAsyncExecutor(null) reuses the pool still running.
+                if (defaultExecutor == null) {
+                    defaultExecutor = AsyncExecutors.createDefault();
+                }
+                asyncExecutor = defaultExecutor;
             }
+            return asyncExecutor;
+        }
+    }
 
+    private static void shutdownDefaultExecutor() {
+        synchronized (SimpleToast.class) {
+            if (defaultExecutor != null) {
+                defaultExecutor.shutdown();
+                if (asyncExecutor == defaultExecutor) {
+                    asyncExecutor = null;
+                }
+                defaultExecutor = null;
+            }
+        }
+    }
+
+    @Nullable
+    private static IToastWrapper resolveWrapper(@NotNull Player player) {
+        ToastRuntime runtime = ToastRuntime.get();
+        if (!isProtocolSupported(runtime, player)) {
             return null;
         }
+
+        return runtime.getWrapper();
     }
 
     @NotNull
-    private static IToastWrapper resolveDynamicWrapper(@NotNull String moduleName,
-                                                       @NotNull String implementationClassName) {
-        return NmsModuleLoader.load(moduleName, implementationClassName);
+    private static List<Player> filterSupported(@NotNull ToastRuntime runtime,
+                                                @NotNull Collection<? extends Player> players) {
+        List<Player> recipients = new ArrayList<>(players.size());
+        for (Player player : players) {
+            if (isProtocolSupported(runtime, player)) {
+                recipients.add(player);
+            }
+        }
+        return recipients;
+    }
+
+    @Nullable
+    private static Player singleOrNull(@NotNull List<Player> recipients) {
+        return recipients.size() == 1 ? recipients.get(0) : null;
+    }
+
+    private static boolean isProtocolSupported(@NotNull ToastRuntime runtime, @NotNull Player player) {
+        ProtocolLookupEvent event = new ProtocolLookupEvent();
+        event.begin();
+        int protocol = runtime.getProtocolProvider().getProtocol(player);
+        boolean supported = protocol >= MIN_TOAST_PROTOCOL;
+        event.complete(player, protocol, supported);
+
+        if (!supported) {
+            ToastMetrics.recordProtocolRejected();
+        }
+        return supported;
     }
 }
\ No newline at end of file
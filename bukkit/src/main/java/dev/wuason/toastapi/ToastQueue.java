@@ -0,0 +1,258 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi;
+
+import dev.wuason.toastapi.content.JsonContent;
+import dev.wuason.toastapi.nms.EToastType;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player dispatch queue used by {@link SimpleToast#queueToast}.
+ *
+ * <p>Toasts queued for the same player are sent one at a time, spaced by
+ * {@link #setInterval(long) the interval}, instead of all in the same tick. A toast that is
+ * identical to one still pending for that player (same title, icon, type and id) is merged
+ * into it, and each queue holds at most {@link #setMaxDepth(int) max depth} toasts.
+ *
+ * <p>The vanilla client keeps an advancement toast on screen for about 5 seconds
+ * ({@link #TOAST_DISPLAY_TICKS}) and shows up to {@link #VISIBLE_TOASTS} at a time. By default
+ * the interval is the display time divided by that number of slots, so a steady stream of
+ * queued toasts never needs more slots than the client has, and a full queue drains in
+ * seconds rather than minutes.
+ *
+ * <p>A player's pending toasts are dropped when they leave the server.
+ */
+public final class ToastQueue {
+
+    /**
+     * How long the vanilla client shows an advancement toast, in ticks.
+     */
+    public static final long TOAST_DISPLAY_TICKS = 100L;
+
+    /**
+     * How many toasts the vanilla client shows on screen at once.
+     */
+    public static final int VISIBLE_TOASTS = 5;
+    public static final long DEFAULT_INTERVAL_TICKS = TOAST_DISPLAY_TICKS / VISIBLE_TOASTS;
+    public static final int DEFAULT_MAX_DEPTH = 16;
+
+    private static final Map<UUID, PlayerQueue> QUEUES = new ConcurrentHashMap<>();
+
+    private static volatile long interval = DEFAULT_INTERVAL_TICKS;
+    private static volatile int maxDepth = DEFAULT_MAX_DEPTH;
+
+    private static volatile BukkitTask task = null;
+    private static QuitListener quitListener = null;
+    private static long currentTick = 0L;
+
+    private ToastQueue() {
+    }
+
+    /**
+     * Sets how many ticks to wait between two toasts sent to the same player.
+     *
+     * @param ticks the interval in ticks, {@code 0} sends one toast per tick
+     */
+    public static void setInterval(long ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("Interval cannot be negative: " + ticks);
+        }
+        interval = ticks;
+    }
+
+    public static long getInterval() {
+        return interval;
+    }
+
+    /**
+     * Sets how many toasts can be pending for a single player. Toasts queued beyond that are
+     * dropped.
+     *
+     * @param depth the maximum queue depth, at least {@code 1}
+     */
+    public static void setMaxDepth(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Max depth must be at least 1: " + depth);
+        }
+        maxDepth = depth;
+    }
+
+    public static int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns the number of toasts waiting to be sent to {@code player}.
+     */
+    public static int getPendingCount(@NotNull Player player) {
+        PlayerQueue queue = QUEUES.get(player.getUniqueId());
+        if (queue == null) {
+            return 0;
+        }
+        synchronized (queue) {
+            return queue.pending.size();
+        }
+    }
+
+    /**
+     * Drops every toast still pending for {@code player}.
+     */
+    public static void clear(@NotNull Player player) {
+        QUEUES.remove(player.getUniqueId());
+    }
+
+    /**
+     * Returns whether the queue is running, that is, whether {@link SimpleToast#enable(Plugin)}
+     * has been called.
+     */
+    public static boolean isEnabled() {
+        return task != null;
+    }
+
+    static void enable(@NotNull Plugin plugin) {
+        synchronized (ToastQueue.class) {
+            if (task != null) {
+                task.cancel();
+            }
+            if (quitListener != null) {
+                HandlerList.unregisterAll(quitListener);
+            }
+            task = Bukkit.getScheduler().runTaskTimer(plugin, ToastQueue::tick, 1L, 1L);
+            quitListener = new QuitListener();
+            Bukkit.getPluginManager().registerEvents(quitListener, plugin);
+        }
+    }
+
+    static void disable() {
+        synchronized (ToastQueue.class) {
+            if (task != null) {
+                task.cancel();
+                task = null;
+            }
+            if (quitListener != null) {
+                HandlerList.unregisterAll(quitListener);
+                quitListener = null;
+            }
+        }
+        QUEUES.clear();
+    }
+
+    /**
+     * Queues a toast for {@code player}.
+     *
+     * @return {@code false} if the player's queue is full and the toast was dropped
+     */
+    static boolean offer(@NotNull Player player, @NotNull PendingToast toast) {
+        boolean[] accepted = {true};
+        QUEUES.compute(player.getUniqueId(), (uuid, queue) -> {
+            if (queue == null) {
+                queue = new PlayerQueue();
+            }
+            synchronized (queue) {
+                if (queue.pending.contains(toast)) {
+                    return queue;
+                }
+                if (queue.pending.size() >= maxDepth) {
+                    accepted[0] = false;
+                    return queue;
+                }
+                queue.pending.add(toast);
+            }
+            return queue;
+        });
+        return accepted[0];
+    }
+
+    private static void tick() {
+        long now = ++currentTick;
+
+        for (UUID uuid : QUEUES.keySet()) {
+            PendingToast[] due = new PendingToast[1];
+            QUEUES.computeIfPresent(uuid, (id, queue) -> {
+                synchronized (queue) {
+                    if (now < queue.nextTick) {
+                        return queue;
+                    }
+                    due[0] = queue.pending.poll();
+                    if (due[0] == null) {
+                        return null;
+                    }
+                    queue.nextTick = now + Math.max(1L, interval);
+                    return queue;
+                }
+            });
+
+            if (due[0] != null) {
+                dispatch(uuid, due[0]);
+            }
+        }
+    }
+
+    private static void dispatch(@NotNull UUID uuid, @NotNull PendingToast toast) {
+        Player player = Bukkit.getPlayer(uuid);
+        if (player == null || !player.isOnline()) {
+            QUEUES.remove(uuid);
+            return;
+        }
+
+        SimpleToast.sendToast(
+                toast.icon(),
+                player,
+                new JsonContent(toast.title()),
+                toast.toastType(),
+                toast.namespace(),
+                toast.path()
+        );
+    }
+
+    record PendingToast(@Nullable ItemStack icon,
+                        @NotNull String title,
+                        @NotNull EToastType toastType,
+                        @NotNull String namespace,
+                        @NotNull String path) {
+    }
+
+    private static final class QuitListener implements Listener {
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onQuit(PlayerQuitEvent event) {
+            QUEUES.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    private static final class PlayerQueue {
+        private final ArrayDeque<PendingToast> pending = new ArrayDeque<>();
+        private long nextTick = 0L;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi;
+
+import dev.wuason.toastapi.nms.IToastWrapper;
+import dev.wuason.toastapi.nms.ToastWrapperRegistry;
+import dev.wuason.toastapi.protocol.PlayerVersion;
+import dev.wuason.toastapi.protocol.PlayerVersionProvider;
+import dev.wuason.toastapi.utils.EMinecraftVersion;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable snapshot of everything {@link SimpleToast} needs to send a toast: the server
+ * version, its NMS version, the client protocol provider and the NMS wrapper.
+ *
+ * <p>It is built once by {@link SimpleToast#enable} and published through a single volatile
+ * reference, so every send reads it once instead of going through each lazy holder.
+ * The registries notify their change listeners when the wrapper or the protocol provider is
+ * replaced; that drops the snapshot and the next {@link #get()} builds a new one.
+ *
+ * <p>While a wrapper override is installed, the server version is not resolved up front,
+ * so the runtime can be built without a running server (tests and benchmarks).
+ */
+public final class ToastRuntime {
+
+    private static final Object LOCK = new Object();
+
+    private static volatile ToastRuntime current = null;
+    private static volatile int generation = 0;
+
+    static {
+        ToastWrapperRegistry.addChangeListener(ToastRuntime::invalidate);
+        PlayerVersionProvider.addChangeListener(ToastRuntime::invalidate);
+    }
+
+    private final EMinecraftVersion serverVersion;
+    private final EMinecraftVersion.NMSVersion nmsVersion;
+    private final PlayerVersion protocolProvider;
+    private final IToastWrapper wrapper;
+
+    private ToastRuntime(@Nullable EMinecraftVersion serverVersion,
+                         @NotNull PlayerVersion protocolProvider,
+                         @Nullable IToastWrapper wrapper) {
+        this.serverVersion = serverVersion;
+        this.nmsVersion = serverVersion == null ? null : serverVersion.getNMSVersion();
+        this.protocolProvider = protocolProvider;
+        this.wrapper = wrapper;
+    }
+
+    /**
+     * Returns the current runtime, building it first if it was never built or has been invalidated.
+     *
+     * @return the current runtime
+     */
+    @NotNull
+    public static ToastRuntime get() {
+        ToastRuntime runtime = current;
+        if (runtime != null) {
+            return runtime;
+        }
+        return initialize();
+    }
+
+    private static void invalidate() {
+        synchronized (LOCK) {
+            generation++;
+            current = null;
+        }
+    }
+
+    @NotNull
+    static ToastRuntime initialize() {
+        int expectedGeneration = generation;
+        ToastRuntime runtime = new ToastRuntime(
+                ToastWrapperRegistry.isOverridden() ? null : EMinecraftVersion.getServerVersionSelected(),
+                PlayerVersionProvider.get(),
+                ToastWrapperRegistry.get()
+        );
+
+        synchronized (LOCK) {
+            // Something changed while building; use this snapshot once but do not publish it.
+            if (generation == expectedGeneration) {
+                current = runtime;
+            }
+        }
+        return runtime;
+    }
+
+    @NotNull
+    public EMinecraftVersion getServerVersion() {
+        return serverVersion != null ? serverVersion : EMinecraftVersion.getServerVersionSelected();
+    }
+
+    @NotNull
+    public EMinecraftVersion.NMSVersion getNMSVersion() {
+        return nmsVersion != null ? nmsVersion : getServerVersion().getNMSVersion();
+    }
+
+    @NotNull
+    public PlayerVersion getProtocolProvider() {
+        return protocolProvider;
+    }
+
+    /**
+     * Returns the NMS wrapper. If it failed to load when the snapshot was built, the registry is
+     * asked again, which is a no-op until its retry delay has passed. A successful retry
+     * invalidates the snapshot.
+     *
+     * @return the wrapper, or {@code null} if it is not available
+     */
+    @Nullable
+    public IToastWrapper getWrapper() {
+        IToastWrapper resolved = wrapper;
+        return resolved != null ? resolved : ToastWrapperRegistry.get();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi;
+
+import dev.wuason.toastapi.nms.EToastType;
+import dev.wuason.toastapi.nms.ICompiledToast;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Opaque handle of a toast precompiled with {@link SimpleToast#compile}.
+ *
+ * <p>The title is parsed and the advancement packets are built once, when the template
+ * is compiled, so sending it only writes the packets to the connections. Templates are
+ * bound to the wrapper that was active when they were compiled; compile them again after
+ * {@link dev.wuason.toastapi.nms.ToastWrapperRegistry#reset()}.
+ */
+public final class ToastTemplate {
+
+    private final ICompiledToast compiledToast;
+    private final EToastType toastType;
+
+    ToastTemplate(@Nullable ICompiledToast compiledToast, @NotNull EToastType toastType) {
+        this.compiledToast = compiledToast;
+        this.toastType = toastType;
+    }
+
+    @Nullable
+    ICompiledToast getCompiledToast() {
+        return compiledToast;
+    }
+
+    @NotNull
+    EToastType getToastType() {
+        return toastType;
+    }
+
+    public void send(@NotNull Player player) {
+        SimpleToast.sendToast(player, this);
+    }
+
+    public void send(@NotNull Collection<? extends Player> players) {
+        SimpleToast.sendToast(players, this);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.content;
+
+import dev.wuason.toastapi.utils.Memoized;
+
+import java.util.Objects;
+
+/**
+ * Decorator that computes the JSON of another {@link IContent} once, on first use,
+ * and returns the same string afterwards.
+ */
+public final class CachedContent implements IContent {
+    private final Memoized<String> content;
+
+    public CachedContent(IContent delegate) {
+        Objects.requireNonNull(delegate, "delegate cannot be null");
+        this.content = new Memoized<>(delegate::getContent);
+    }
+
+    @Override
+    public String getContent() {
+        return content.get();
+    }
+
+    @Override
+    public String getContentIfComputed() {
+        return content.getIfComputed();
+    }
+
+    @Override
+    public IContent cached() {
+        return this;
+    }
+}
@@ -17,11 +17,13 @@
 
 package dev.wuason.toastapi.content;
 
+import dev.wuason.toastapi.utils.Memoized;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 
-public class ComponentContent implements IContent {
+public class ComponentContent implements IAdventureContent {
     private final Component component;
+    private final Memoized<String> content = new Memoized<>(this::serialize);
 
     public ComponentContent(Component component) {
         this.component = component;
@@ -29,6 +31,25 @@ public class ComponentContent implements IContent {
 
     @Override
     public String getContent() {
+        return content.get();
+    }
+
+    @Override
+    public String getContentIfComputed() {
+        return content.getIfComputed();
+    }
+
+    @Override
+    public Component getComponent() {
+        return component;
+    }
+
+    @Override
+    public IContent cached() {
+        return this;
+    }
+
+    private String serialize() {
         return GsonComponentSerializer.gson().serialize(component);
     }
 }
@@ -0,0 +1,34 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.content;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * A content backed by an Adventure {@link Component}. On Paper the NMS wrappers convert
+ * the component natively, without serializing it to JSON and parsing it back.
+ */
+public interface IAdventureContent extends IContent {
+
+    /**
+     * Returns the title as an Adventure component.
+     *
+     * @return the component, never {@code null}
+     */
+    Component getComponent();
+}
@@ -17,6 +17,44 @@
 
 package dev.wuason.toastapi.content;
 
+import dev.wuason.toastapi.utils.Utf8;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+
 public interface IContent {
     String getContent();
+
+    /**
+     * Returns the JSON of {@link #getContent()} only if this content already holds it, so
+     * callers that merely describe a title, such as the JFR events, never serialize it.
+     *
+     * @return the JSON, or {@code null} if it has not been produced yet
+     */
+    @Nullable
+    default String getContentIfComputed() {
+        return null;
+    }
+
+    /**
+     * Writes the JSON of {@link #getContent()} as UTF-8 at the position of {@code out}.
+     * Contents that can produce their JSON without building a {@code String} override it.
+     *
+     * @param out the buffer receiving the UTF-8 JSON, may be direct
+     * @return the number of bytes written
+     * @throws java.nio.BufferOverflowException if the JSON does not fit; nothing is written then
+     */
+    default int writeContent(ByteBuffer out) {
+        return Utf8.encode(getContent(), out);
+    }
+
+    /**
+     * Returns a view of this content that computes {@link #getContent()} once and reuses
+     * the result. Only use it for contents whose JSON never changes.
+     *
+     * @return a memoizing view of this content
+     */
+    default IContent cached() {
+        return new CachedContent(this);
+    }
 }
@@ -0,0 +1,35 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.content;
+
+import java.util.List;
+
+/**
+ * A content that can also describe its title as plain styled runs. NMS wrappers that
+ * support it build the title component straight from the runs, without writing and
+ * parsing its JSON.
+ */
+public interface ISegmentedContent extends IContent {
+
+    /**
+     * Returns the runs of the title, in order. Adjacent runs never share the same style.
+     *
+     * @return the styled runs, empty for an empty title
+     */
+    List<TextSegment> getSegments();
+}
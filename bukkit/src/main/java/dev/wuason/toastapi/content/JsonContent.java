@@ -28,4 +28,14 @@ public class JsonContent implements IContent {
     public String getContent() {
         return json;
     }
+
+    @Override
+    public String getContentIfComputed() {
+        return json;
+    }
+
+    @Override
+    public IContent cached() {
+        return this;
+    }
 }
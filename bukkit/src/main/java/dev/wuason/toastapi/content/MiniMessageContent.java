@@ -17,12 +17,15 @@
 
 package dev.wuason.toastapi.content;
 
+import dev.wuason.toastapi.utils.Memoized;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 
-public class MiniMessageContent implements IContent {
+public class MiniMessageContent implements IAdventureContent {
     private final String miniMessage;
+    private final Memoized<Component> component = new Memoized<>(this::deserialize);
+    private final Memoized<String> content = new Memoized<>(this::serialize);
 
     public MiniMessageContent(String miniMessage) {
         this.miniMessage = miniMessage;
@@ -30,7 +33,29 @@ public class MiniMessageContent implements IContent {
 
     @Override
     public String getContent() {
-        Component component = MiniMessage.miniMessage().deserialize(miniMessage);
-        return GsonComponentSerializer.gson().serialize(component);
+        return content.get();
+    }
+
+    @Override
+    public String getContentIfComputed() {
+        return content.getIfComputed();
+    }
+
+    @Override
+    public Component getComponent() {
+        return component.get();
+    }
+
+    @Override
+    public IContent cached() {
+        return this;
+    }
+
+    private Component deserialize() {
+        return MiniMessage.miniMessage().deserialize(miniMessage);
+    }
+
+    private String serialize() {
+        return GsonComponentSerializer.gson().serialize(getComponent());
     }
 }
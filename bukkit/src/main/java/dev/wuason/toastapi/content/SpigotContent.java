@@ -17,6 +17,7 @@
 
 package dev.wuason.toastapi.content;
 
+import dev.wuason.toastapi.utils.Memoized;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.TextComponent;
 import net.md_5.bungee.chat.ComponentSerializer;
@@ -24,6 +25,7 @@ import org.bukkit.ChatColor;
 
 public class SpigotContent implements IContent {
     private final String legacyText;
+    private final Memoized<String> content = new Memoized<>(this::serialize);
 
     public SpigotContent(String legacyText) {
         this.legacyText = legacyText;
@@ -31,6 +33,20 @@ public class SpigotContent implements IContent {
 
     @Override
     public String getContent() {
+        return content.get();
+    }
+
+    @Override
+    public String getContentIfComputed() {
+        return content.getIfComputed();
+    }
+
+    @Override
+    public IContent cached() {
+        return this;
+    }
+
+    private String serialize() {
         String withSection = ChatColor.translateAlternateColorCodes('&', legacyText);
         BaseComponent[] components = TextComponent.fromLegacyText(withSection);
         return ComponentSerializer.toString(components);
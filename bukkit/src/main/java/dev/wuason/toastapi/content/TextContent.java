@@ -18,9 +18,17 @@
 package dev.wuason.toastapi.content;
 
 import dev.wuason.toastapi.utils.Colors;
+import dev.wuason.toastapi.utils.Memoized;
+import dev.wuason.toastapi.utils.Utf8;
 
-public class TextContent implements IContent {
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TextContent implements ISegmentedContent {
     private final String text;
+    private final Memoized<String> content = new Memoized<>(this::serialize);
+    private final Memoized<List<TextSegment>> segments = new Memoized<>(this::parseSegments);
 
     public TextContent(String text) {
         this.text = text;
@@ -28,6 +36,50 @@ public class TextContent implements IContent {
 
     @Override
     public String getContent() {
-        return Colors.toJsonTextComponent(text);
+        return content.get();
+    }
+
+    @Override
+    public String getContentIfComputed() {
+        return content.getIfComputed();
+    }
+
+    @Override
+    public int writeContent(ByteBuffer out) {
+        String result = content.getIfComputed();
+        if (result != null) {
+            return Utf8.encode(result, out);
+        }
+        return Colors.writeJsonTextComponent(text, out, true);
+    }
+
+    @Override
+    public List<TextSegment> getSegments() {
+        return segments.get();
+    }
+
+    @Override
+    public IContent cached() {
+        return this;
+    }
+
+    private String serialize() {
+        return Colors.toJsonTextComponent(text, true);
+    }
+
+    private List<TextSegment> parseSegments() {
+        List<TextSegment> segments = new ArrayList<>();
+        Colors.forEachRun(text, (run, color, bold, italic, underlined, strikethrough, obfuscated) -> {
+            TextSegment segment = new TextSegment(run, color, bold, italic, underlined, strikethrough, obfuscated);
+            int last = segments.size() - 1;
+            // Adjacent runs with the same style are merged, like in compact mode.
+            if (last >= 0 && segments.get(last).hasSameStyle(segment)) {
+                segments.set(last, new TextSegment(segments.get(last).text() + run, color,
+                        bold, italic, underlined, strikethrough, obfuscated));
+            } else {
+                segments.add(segment);
+            }
+        });
+        return List.copyOf(segments);
     }
 }
@@ -0,0 +1,64 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.content;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A run of text with a single style, as produced by {@link ISegmentedContent}.
+ *
+ * @param text          the text of the run
+ * @param color         a named color ({@code "green"}, {@code "dark_blue"}...), a hex color
+ *                      ({@code "#rrggbb"}), or {@code null} for the default color
+ * @param bold          whether the run is bold
+ * @param italic        whether the run is italic
+ * @param underlined    whether the run is underlined
+ * @param strikethrough whether the run is struck through
+ * @param obfuscated    whether the run is obfuscated
+ */
+public record TextSegment(@NotNull String text,
+                          @Nullable String color,
+                          boolean bold,
+                          boolean italic,
+                          boolean underlined,
+                          boolean strikethrough,
+                          boolean obfuscated) {
+
+    public boolean isHexColor() {
+        return color != null && color.startsWith("#");
+    }
+
+    /**
+     * Returns the color as {@code 0xRRGGBB}, only valid for {@link #isHexColor() hex colors}.
+     */
+    public int rgb() {
+        return Integer.parseInt(color, 1, 7, 16);
+    }
+
+    public boolean hasSameStyle(@NotNull TextSegment other) {
+        return bold == other.bold
+                && italic == other.italic
+                && underlined == other.underlined
+                && strikethrough == other.strikethrough
+                && obfuscated == other.obfuscated
+                && Objects.equals(color, other.color);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * JFR event covering the parsing of a title JSON into an NMS component, including the
+ * lookup in the component cache.
+ */
+@Name("dev.wuason.toastapi.ComponentParse")
+@Label("Toast Component Parse")
+@Category({"SimpleToastApi"})
+@StackTrace(false)
+public final class ComponentParseEvent extends Event {
+
+    @Label("Title Length")
+    int titleLength;
+
+    public void complete(@NotNull String json) {
+        end();
+        if (shouldCommit()) {
+            this.titleLength = json.length();
+            commit();
+        }
+    }
+}
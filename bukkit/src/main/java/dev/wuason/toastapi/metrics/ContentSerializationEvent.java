@@ -0,0 +1,59 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.metrics;
+
+import dev.wuason.toastapi.content.IContent;
+import dev.wuason.toastapi.nms.EToastType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * JFR event covering the conversion of an {@link IContent} into the title the NMS wrapper
+ * needs, either its JSON or a component built directly from it.
+ */
+@Name("dev.wuason.toastapi.ContentSerialization")
+@Label("Toast Content Serialization")
+@Category({"SimpleToastApi"})
+@StackTrace(false)
+public final class ContentSerializationEvent extends Event {
+
+    @Label("Content Type")
+    String contentType;
+
+    @Label("Toast Type")
+    String toastType;
+
+    @Label("Title Length")
+    @Description("Length of the title JSON, -1 if the wrapper built the title without it")
+    int titleLength;
+
+    public void complete(@NotNull IContent title, EToastType toastType) {
+        end();
+        if (shouldCommit()) {
+            this.contentType = title.getClass().getSimpleName();
+            this.toastType = String.valueOf(toastType);
+            this.titleLength = ToastSendEvent.titleLength(title);
+            commit();
+        }
+    }
+}
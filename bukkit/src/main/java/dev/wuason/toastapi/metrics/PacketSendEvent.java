@@ -0,0 +1,54 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * JFR event covering the hand-off of the toast packets to a player's connection.
+ * It fires once per recipient, so by default only hand-offs of 1 ms or more are recorded.
+ */
+@Name("dev.wuason.toastapi.PacketSend")
+@Label("Toast Packet Send")
+@Category({"SimpleToastApi"})
+@StackTrace(false)
+@Threshold("1 ms")
+public final class PacketSendEvent extends Event {
+
+    @Label("Player")
+    String player;
+
+    @Label("Packets")
+    int packets;
+
+    public void complete(@NotNull Player player, int packets) {
+        end();
+        if (shouldCommit()) {
+            this.player = player.getName();
+            this.packets = packets;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * JFR event covering the lookup of a player's protocol version before a toast is sent.
+ * It fires once per recipient, so by default only lookups of 1 ms or more are recorded.
+ */
+@Name("dev.wuason.toastapi.ProtocolLookup")
+@Label("Toast Protocol Lookup")
+@Category({"SimpleToastApi"})
+@StackTrace(false)
+@Threshold("1 ms")
+public final class ProtocolLookupEvent extends Event {
+
+    @Label("Player")
+    String player;
+
+    @Label("Protocol")
+    int protocol;
+
+    @Label("Supported")
+    boolean supported;
+
+    public void complete(@NotNull Player player, int protocol, boolean supported) {
+        end();
+        if (shouldCommit()) {
+            this.player = player.getName();
+            this.protocol = protocol;
+            this.supported = supported;
+            commit();
+        }
+    }
+}
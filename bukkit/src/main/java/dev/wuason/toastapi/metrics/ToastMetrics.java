@@ -0,0 +1,318 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.metrics;
+
+import dev.wuason.toastapi.nms.ComponentCache;
+import dev.wuason.toastapi.nms.EToastType;
+import dev.wuason.toastapi.nms.IconCache;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timings of the toasts sent through SimpleToast.
+ *
+ * <p>Everything is recorded with {@link LongAdder}s, so the send path never takes a lock.
+ * Sends are counted per player. Content serialization covers turning the title into the
+ * NMS component, packet build covers the advancement and its packets. Both are recorded
+ * by the NMS modules.
+ */
+public final class ToastMetrics {
+
+    private static final String OBJECT_NAME = "dev.wuason.toastapi:type=ToastMetrics,plugin=";
+
+    private static final LongAdder[] SENT_BY_TYPE = createAdders(EToastType.values().length);
+    private static final Map<String, LongAdder> SENT_BY_MODULE = new ConcurrentHashMap<>();
+    private static final LongAdder PROTOCOL_REJECTED = new LongAdder();
+    private static final LongAdder WRAPPER_FAILURES = new LongAdder();
+    private static final LatencyHistogram CONTENT_SERIALIZATION = new LatencyHistogram();
+    private static final LatencyHistogram PACKET_BUILD = new LatencyHistogram();
+
+    private static ObjectName registeredName = null;
+
+    private ToastMetrics() {
+    }
+
+    /**
+     * Counts a toast sent to {@code players} players.
+     *
+     * @param toastType the type of the toast
+     * @param source    the wrapper or compiled toast that sent it, its package names the NMS module
+     * @param players   the number of recipients
+     */
+    public static void recordSent(@NotNull EToastType toastType, @NotNull Object source, int players) {
+        SENT_BY_TYPE[toastType.ordinal()].add(players);
+        SENT_BY_MODULE.computeIfAbsent(source.getClass().getPackageName(), key -> new LongAdder()).add(players);
+    }
+
+    public static void recordProtocolRejected() {
+        PROTOCOL_REJECTED.increment();
+    }
+
+    public static void recordWrapperFailure() {
+        WRAPPER_FAILURES.increment();
+    }
+
+    /**
+     * @param startNanos the {@link System#nanoTime()} taken before serializing the title
+     */
+    public static void recordContentSerialization(long startNanos) {
+        CONTENT_SERIALIZATION.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @param startNanos the {@link System#nanoTime()} taken before building the packets
+     */
+    public static void recordPacketBuild(long startNanos) {
+        PACKET_BUILD.record(System.nanoTime() - startNanos);
+    }
+
+    public static long getSentCount() {
+        long sent = 0;
+        for (LongAdder adder : SENT_BY_TYPE) {
+            sent += adder.sum();
+        }
+        return sent;
+    }
+
+    public static long getSentCount(@NotNull EToastType toastType) {
+        return SENT_BY_TYPE[toastType.ordinal()].sum();
+    }
+
+    /**
+     * @return the number of sent toasts keyed by NMS module name, e.g. {@code v1_21_R1}
+     */
+    @NotNull
+    public static Map<String, Long> getSentCountByModule() {
+        Map<String, Long> sent = new TreeMap<>();
+        SENT_BY_MODULE.forEach((packageName, adder) ->
+                sent.merge(packageName.substring(packageName.lastIndexOf('.') + 1), adder.sum(), Long::sum));
+        return Collections.unmodifiableMap(sent);
+    }
+
+    public static long getProtocolRejectedCount() {
+        return PROTOCOL_REJECTED.sum();
+    }
+
+    public static long getWrapperFailureCount() {
+        return WRAPPER_FAILURES.sum();
+    }
+
+    @NotNull
+    public static LatencyHistogram getContentSerializationTime() {
+        return CONTENT_SERIALIZATION;
+    }
+
+    @NotNull
+    public static LatencyHistogram getPacketBuildTime() {
+        return PACKET_BUILD;
+    }
+
+    public static void reset() {
+        for (LongAdder adder : SENT_BY_TYPE) {
+            adder.reset();
+        }
+        SENT_BY_MODULE.clear();
+        PROTOCOL_REJECTED.reset();
+        WRAPPER_FAILURES.reset();
+        CONTENT_SERIALIZATION.reset();
+        PACKET_BUILD.reset();
+    }
+
+    /**
+     * Registers the {@link ToastMetricsMXBean} of this copy of SimpleToast. Every plugin that
+     * shades SimpleToast gets its own bean, named after the plugin.
+     *
+     * @param pluginName the name of the plugin that shades SimpleToast
+     */
+    public static synchronized void registerMBean(@NotNull String pluginName) {
+        if (registeredName != null) {
+            return;
+        }
+
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME + ObjectName.quote(pluginName));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(new MXBean(), name);
+            registeredName = name;
+        } catch (JMException e) {
+            Bukkit.getLogger().warning("[SimpleToastApi] Failed to register the metrics MBean: " + e.getMessage());
+        }
+    }
+
+    public static synchronized void unregisterMBean() {
+        if (registeredName == null) {
+            return;
+        }
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+        } catch (JMException e) {
+            Bukkit.getLogger().warning("[SimpleToastApi] Failed to unregister the metrics MBean: " + e.getMessage());
+        }
+        registeredName = null;
+    }
+
+    private static LongAdder[] createAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static double hitRate(long hits, long misses) {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    private static final class MXBean implements ToastMetricsMXBean {
+
+        @Override
+        public long getSentCount() {
+            return ToastMetrics.getSentCount();
+        }
+
+        @Override
+        public long getSentTaskCount() {
+            return ToastMetrics.getSentCount(EToastType.TASK);
+        }
+
+        @Override
+        public long getSentGoalCount() {
+            return ToastMetrics.getSentCount(EToastType.GOAL);
+        }
+
+        @Override
+        public long getSentChallengeCount() {
+            return ToastMetrics.getSentCount(EToastType.CHALLENGE);
+        }
+
+        @Override
+        public Map<String, Long> getSentCountByModule() {
+            return ToastMetrics.getSentCountByModule();
+        }
+
+        @Override
+        public long getProtocolRejectedCount() {
+            return ToastMetrics.getProtocolRejectedCount();
+        }
+
+        @Override
+        public long getWrapperFailureCount() {
+            return ToastMetrics.getWrapperFailureCount();
+        }
+
+        @Override
+        public long getComponentCacheHitCount() {
+            return ComponentCache.getHitCount();
+        }
+
+        @Override
+        public long getComponentCacheMissCount() {
+            return ComponentCache.getMissCount();
+        }
+
+        @Override
+        public double getComponentCacheHitRate() {
+            return hitRate(ComponentCache.getHitCount(), ComponentCache.getMissCount());
+        }
+
+        @Override
+        public long getIconCacheHitCount() {
+            return IconCache.getHitCount();
+        }
+
+        @Override
+        public long getIconCacheMissCount() {
+            return IconCache.getMissCount();
+        }
+
+        @Override
+        public double getIconCacheHitRate() {
+            return hitRate(IconCache.getHitCount(), IconCache.getMissCount());
+        }
+
+        @Override
+        public long getContentSerializationCount() {
+            return CONTENT_SERIALIZATION.getCount();
+        }
+
+        @Override
+        public double getContentSerializationMeanNanos() {
+            return CONTENT_SERIALIZATION.getMeanNanos();
+        }
+
+        @Override
+        public long getContentSerializationP50Nanos() {
+            return CONTENT_SERIALIZATION.getValueAtPercentile(50.0);
+        }
+
+        @Override
+        public long getContentSerializationP99Nanos() {
+            return CONTENT_SERIALIZATION.getValueAtPercentile(99.0);
+        }
+
+        @Override
+        public long getContentSerializationMaxNanos() {
+            return CONTENT_SERIALIZATION.getMaxNanos();
+        }
+
+        @Override
+        public long getPacketBuildCount() {
+            return PACKET_BUILD.getCount();
+        }
+
+        @Override
+        public double getPacketBuildMeanNanos() {
+            return PACKET_BUILD.getMeanNanos();
+        }
+
+        @Override
+        public long getPacketBuildP50Nanos() {
+            return PACKET_BUILD.getValueAtPercentile(50.0);
+        }
+
+        @Override
+        public long getPacketBuildP99Nanos() {
+            return PACKET_BUILD.getValueAtPercentile(99.0);
+        }
+
+        @Override
+        public long getPacketBuildMaxNanos() {
+            return PACKET_BUILD.getMaxNanos();
+        }
+
+        @Override
+        public void reset() {
+            ToastMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link ToastMetrics}, registered by {@link dev.wuason.toastapi.SimpleToast#enable}
+ * under {@code dev.wuason.toastapi:type=ToastMetrics,plugin=<plugin name>}.
+ * Durations are in nanoseconds.
+ */
+public interface ToastMetricsMXBean {
+
+    long getSentCount();
+
+    long getSentTaskCount();
+
+    long getSentGoalCount();
+
+    long getSentChallengeCount();
+
+    Map<String, Long> getSentCountByModule();
+
+    long getProtocolRejectedCount();
+
+    long getWrapperFailureCount();
+
+    long getComponentCacheHitCount();
+
+    long getComponentCacheMissCount();
+
+    double getComponentCacheHitRate();
+
+    long getIconCacheHitCount();
+
+    long getIconCacheMissCount();
+
+    double getIconCacheHitRate();
+
+    long getContentSerializationCount();
+
+    double getContentSerializationMeanNanos();
+
+    long getContentSerializationP50Nanos();
+
+    long getContentSerializationP99Nanos();
+
+    long getContentSerializationMaxNanos();
+
+    long getPacketBuildCount();
+
+    double getPacketBuildMeanNanos();
+
+    long getPacketBuildP50Nanos();
+
+    long getPacketBuildP99Nanos();
+
+    long getPacketBuildMaxNanos();
+
+    void reset();
+}
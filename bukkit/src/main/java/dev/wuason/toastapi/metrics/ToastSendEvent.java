@@ -0,0 +1,79 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.metrics;
+
+import dev.wuason.toastapi.content.IContent;
+import dev.wuason.toastapi.nms.EToastType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * JFR event covering a whole {@code SimpleToast.sendToast} call, from the protocol check
+ * to the last packet handed to a connection.
+ *
+ * <p>Like every SimpleToast event it is only filled in when a recording has it enabled,
+ * so it costs nothing otherwise. The title length is the length of the title JSON when the
+ * content already holds it. Recording never serializes a title.
+ */
+@Name("dev.wuason.toastapi.ToastSend")
+@Label("Toast Send")
+@Category({"SimpleToastApi"})
+@Description("Sending a toast to one or more players")
+@StackTrace(false)
+public final class ToastSendEvent extends Event {
+
+    @Label("Player")
+    @Description("The recipient, or null when sent to several players")
+    String player;
+
+    @Label("Recipients")
+    int recipients;
+
+    @Label("Toast Type")
+    String toastType;
+
+    @Label("Title Length")
+    @Description("Length of the title JSON, -1 if it was not serialized")
+    int titleLength;
+
+    /**
+     * Ends the event and commits it if the recording wants it.
+     */
+    public void complete(@Nullable Player player, int recipients, @Nullable IContent title, @NotNull EToastType toastType) {
+        end();
+        if (shouldCommit()) {
+            this.player = player == null ? null : player.getName();
+            this.recipients = recipients;
+            this.toastType = toastType.name();
+            this.titleLength = titleLength(title);
+            commit();
+        }
+    }
+
+    static int titleLength(@Nullable IContent title) {
+        String json = title == null ? null : title.getContentIfComputed();
+        return json == null ? -1 : json.length();
+    }
+}
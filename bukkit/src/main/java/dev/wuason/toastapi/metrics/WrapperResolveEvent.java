@@ -0,0 +1,49 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the loading of the NMS wrapper of the running server.
+ */
+@Name("dev.wuason.toastapi.WrapperResolve")
+@Label("Toast Wrapper Resolve")
+@Category({"SimpleToastApi"})
+@StackTrace(false)
+public final class WrapperResolveEvent extends Event {
+
+    @Label("NMS Version")
+    String nmsVersion;
+
+    @Label("Success")
+    boolean success;
+
+    public void complete(String nmsVersion, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.nmsVersion = nmsVersion;
+            this.success = success;
+            commit();
+        }
+    }
+}
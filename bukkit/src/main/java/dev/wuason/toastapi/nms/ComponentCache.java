@@ -0,0 +1,110 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.nms;
+
+import dev.wuason.toastapi.utils.BoundedCache;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Configuration and statistics of the title JSON to NMS component caches.
+ *
+ * <p>Every NMS module keeps its own cache, created through {@link #create()}, so the same
+ * title is only parsed once while it stays in the cache. The weight of an entry is the
+ * length of its JSON in characters.
+ */
+public final class ComponentCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 512;
+    public static final long DEFAULT_MAX_WEIGHT = 512L * 1024L;
+
+    private static final List<BoundedCache<String, ?>> CACHES = new CopyOnWriteArrayList<>();
+
+    private static int maxEntries = DEFAULT_MAX_ENTRIES;
+    private static long maxWeight = DEFAULT_MAX_WEIGHT;
+
+    private ComponentCache() {
+    }
+
+    /**
+     * Creates a cache with the current limits. Used by the NMS modules.
+     *
+     * @param <V> the NMS component type
+     * @return a new registered cache
+     */
+    @NotNull
+    public static synchronized <V> BoundedCache<String, V> create() {
+        BoundedCache<String, V> cache = new BoundedCache<>(maxEntries, maxWeight, String::length);
+        CACHES.add(cache);
+        return cache;
+    }
+
+    /**
+     * Changes the limits of every component cache.
+     *
+     * @param maxEntries the maximum number of cached titles, {@code 0} disables the cache
+     * @param maxWeight  the maximum total length of the cached JSON titles, in characters
+     */
+    public static synchronized void configure(int maxEntries, long maxWeight) {
+        for (BoundedCache<String, ?> cache : CACHES) {
+            cache.setLimits(maxEntries, maxWeight);
+        }
+        ComponentCache.maxEntries = maxEntries;
+        ComponentCache.maxWeight = maxWeight;
+    }
+
+    public static void clear() {
+        for (BoundedCache<String, ?> cache : CACHES) {
+            cache.clear();
+        }
+    }
+
+    public static long getHitCount() {
+        long hits = 0;
+        for (BoundedCache<String, ?> cache : CACHES) {
+            hits += cache.hitCount();
+        }
+        return hits;
+    }
+
+    public static long getMissCount() {
+        long misses = 0;
+        for (BoundedCache<String, ?> cache : CACHES) {
+            misses += cache.missCount();
+        }
+        return misses;
+    }
+
+    public static long getEvictionCount() {
+        long evictions = 0;
+        for (BoundedCache<String, ?> cache : CACHES) {
+            evictions += cache.evictionCount();
+        }
+        return evictions;
+    }
+
+    public static int getSize() {
+        int size = 0;
+        for (BoundedCache<String, ?> cache : CACHES) {
+            size += cache.size();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.nms;
+
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+
+/**
+ * A toast whose packets have already been built by an {@link IToastWrapper}.
+ * Instances are immutable and can be sent any number of times, to any number of players.
+ */
+public interface ICompiledToast {
+    void send(Player player);
+
+    default void send(Collection<? extends Player> players) {
+        for (Player player : players) {
+            send(player);
+        }
+    }
+
+    /**
+     * Sends the toast by encoding its packets once and writing the same read-only bytes
+     * straight to the channel of every player, instead of letting each connection encode
+     * the packet objects again. ViaVersion still translates the bytes per client, because
+     * its encoder runs after the vanilla one.
+     *
+     * <p>The packet listeners of ProtocolLib and packetevents never see these writes, and
+     * bundled packets are written without their delimiters. Modules that cannot encode
+     * packets fall back to {@link #send(Collection)}, which is also what this default does.
+     *
+     * @see dev.wuason.toastapi.SimpleToast#setPreEncodedSend(boolean)
+     */
+    default void sendEncoded(Collection<? extends Player> players) {
+        send(players);
+    }
+}
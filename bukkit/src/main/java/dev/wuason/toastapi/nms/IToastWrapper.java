@@ -17,9 +17,55 @@
 
 package dev.wuason.toastapi.nms;
 
+import dev.wuason.toastapi.content.IAdventureContent;
+import dev.wuason.toastapi.content.IContent;
+import dev.wuason.toastapi.content.ISegmentedContent;
+import dev.wuason.toastapi.metrics.ContentSerializationEvent;
+import dev.wuason.toastapi.metrics.ToastMetrics;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
+import java.util.Objects;
+
 public interface IToastWrapper {
-    void sendToast(ItemStack icon, Player player, String title, EToastType toastType, String namespace, String path);
+
+    /**
+     * Builds the packets of a toast once, so they can be sent repeatedly without
+     * parsing the title or rebuilding the advancement again.
+     */
+    ICompiledToast compile(ItemStack icon, String title, EToastType toastType, String namespace, String path);
+
+    /**
+     * Same as {@link #compile(ItemStack, String, EToastType, String, String)} with the JSON of
+     * {@code title}. Wrappers that can build the title from an {@link ISegmentedContent}
+     * or an {@link IAdventureContent} override it to skip writing and parsing the JSON.
+     */
+    default ICompiledToast compile(ItemStack icon, IContent title, EToastType toastType, String namespace, String path) {
+        Objects.requireNonNull(title, "title cannot be null");
+        long start = System.nanoTime();
+        ContentSerializationEvent event = new ContentSerializationEvent();
+        event.begin();
+        String json = title.getContent();
+        event.complete(title, toastType);
+        ToastMetrics.recordContentSerialization(start);
+        return compile(icon, json, toastType, namespace, path);
+    }
+
+    default void sendToast(ItemStack icon, Player player, String title, EToastType toastType, String namespace, String path) {
+        Objects.requireNonNull(player, "player cannot be null");
+        compile(icon, title, toastType, namespace, path).send(player);
+    }
+
+    /**
+     * Sends the same toast to every player in {@code players}. The packets are built
+     * once and the same instances are written to every connection.
+     */
+    default void sendToast(ItemStack icon, Collection<? extends Player> players, String title, EToastType toastType, String namespace, String path) {
+        Objects.requireNonNull(players, "players cannot be null");
+        if (players.isEmpty()) {
+            return;
+        }
+        compile(icon, title, toastType, namespace, path).send(players);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.nms;
+
+import dev.wuason.toastapi.utils.BoundedCache;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Configuration and statistics of the Bukkit to NMS icon caches.
+ *
+ * <p>Every NMS module keeps its own cache, created through {@link #create()} and read through
+ * {@link #get(BoundedCache, ItemStack, Function)}. A single item without meta is keyed by its
+ * {@link Material}, so the lookup never builds or compares item meta. Any other icon is keyed
+ * by the whole Bukkit {@link ItemStack} (type, amount and meta), and that key is cloned when
+ * it is stored, so changing an icon after sending it never affects the cache.
+ */
+public final class IconCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private static final List<BoundedCache<Object, ?>> CACHES = new CopyOnWriteArrayList<>();
+
+    private static int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    private IconCache() {
+    }
+
+    /**
+     * Creates a cache with the current limit. Used by the NMS modules.
+     *
+     * @param <V> the NMS icon type
+     * @return a new registered cache
+     */
+    @NotNull
+    public static synchronized <V> BoundedCache<Object, V> create() {
+        BoundedCache<Object, V> cache = new BoundedCache<>(maxEntries, maxEntries, key -> 1L, IconCache::copyKey);
+        CACHES.add(cache);
+        return cache;
+    }
+
+    /**
+     * Looks up the NMS icon of {@code icon}, converting it with {@code loader} on a miss.
+     *
+     * @param cache  a cache created through {@link #create()}
+     * @param icon   the Bukkit icon
+     * @param loader converts the Bukkit icon to the NMS one
+     * @param <V>    the NMS icon type
+     * @return the cached or converted NMS icon
+     */
+    public static <V> V get(@NotNull BoundedCache<Object, V> cache,
+                            @NotNull ItemStack icon,
+                            @NotNull Function<? super ItemStack, ? extends V> loader) {
+        return cache.get(keyOf(icon), key -> loader.apply(icon));
+    }
+
+    static Object keyOf(ItemStack icon) {
+        if (icon.getAmount() == 1 && !icon.hasItemMeta()) {
+            return icon.getType();
+        }
+        return icon;
+    }
+
+    private static Object copyKey(Object key) {
+        return key instanceof ItemStack icon ? icon.clone() : key;
+    }
+
+    /**
+     * Changes the limit of every icon cache.
+     *
+     * @param maxEntries the maximum number of cached icons, {@code 0} disables the cache
+     */
+    public static synchronized void configure(int maxEntries) {
+        for (BoundedCache<Object, ?> cache : CACHES) {
+            cache.setLimits(maxEntries, maxEntries);
+        }
+        IconCache.maxEntries = maxEntries;
+    }
+
+    public static void clear() {
+        for (BoundedCache<Object, ?> cache : CACHES) {
+            cache.clear();
+        }
+    }
+
+    public static long getHitCount() {
+        long hits = 0;
+        for (BoundedCache<Object, ?> cache : CACHES) {
+            hits += cache.hitCount();
+        }
+        return hits;
+    }
+
+    public static long getMissCount() {
+        long misses = 0;
+        for (BoundedCache<Object, ?> cache : CACHES) {
+            misses += cache.missCount();
+        }
+        return misses;
+    }
+
+    public static int getSize() {
+        int size = 0;
+        for (BoundedCache<Object, ?> cache : CACHES) {
+            size += cache.size();
+        }
+        return size;
+    }
+}
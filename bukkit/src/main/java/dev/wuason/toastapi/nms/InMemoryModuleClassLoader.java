@@ -0,0 +1,158 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.nms;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+
+/**
+ * Class loader that defines the classes of an embedded module jar straight from its bytes,
+ * so the module never has to be written to disk.
+ */
+final class InMemoryModuleClassLoader extends ClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final String moduleName;
+    private final Map<String, byte[]> entries;
+    private final ProtectionDomain protectionDomain;
+    private final URLStreamHandler handler = new EntryHandler();
+
+    private InMemoryModuleClassLoader(@NotNull String moduleName,
+                                      @NotNull Map<String, byte[]> entries,
+                                      @NotNull URL codeSource,
+                                      @NotNull ClassLoader parent) {
+        super("SimpleToastApi-" + moduleName, parent);
+        this.moduleName = moduleName;
+        this.entries = entries;
+        this.protectionDomain = new ProtectionDomain(new CodeSource(codeSource, (Certificate[]) null), null, this, null);
+    }
+
+    /**
+     * Reads every entry of the module jar once and keeps it in memory.
+     *
+     * @param moduleName  the name of the module, used for resource URLs
+     * @param jarStream   the stream of the embedded module jar
+     * @param codeSource  the location reported as code source of the module classes
+     * @param parent      the parent class loader
+     */
+    @NotNull
+    static InMemoryModuleClassLoader read(@NotNull String moduleName,
+                                         @NotNull InputStream jarStream,
+                                         @NotNull URL codeSource,
+                                         @NotNull ClassLoader parent) throws IOException {
+        Map<String, byte[]> entries = new HashMap<>();
+        try (JarInputStream jarInputStream = new JarInputStream(jarStream)) {
+            JarEntry entry;
+            while ((entry = jarInputStream.getNextJarEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    entries.put(entry.getName(), jarInputStream.readAllBytes());
+                }
+            }
+        }
+
+        if (entries.isEmpty()) {
+            throw new IOException("Module " + moduleName + " is empty");
+        }
+        return new InMemoryModuleClassLoader(moduleName, Map.copyOf(entries), codeSource, parent);
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] bytes = entries.get(name.replace('.', '/') + ".class");
+        if (bytes == null) {
+            throw new ClassNotFoundException(name);
+        }
+
+        int lastDot = name.lastIndexOf('.');
+        if (lastDot > 0) {
+            String packageName = name.substring(0, lastDot);
+            if (getDefinedPackage(packageName) == null) {
+                try {
+                    definePackage(packageName, null, null, null, null, null, null, null);
+                } catch (IllegalArgumentException ignored) {
+                    // Defined concurrently by another thread.
+                }
+            }
+        }
+        return defineClass(name, bytes, 0, bytes.length, protectionDomain);
+    }
+
+    @Override
+    protected URL findResource(String name) {
+        if (!entries.containsKey(name)) {
+            return null;
+        }
+
+        try {
+            return new URL("simpletoast-module", moduleName, -1, "/" + name, handler);
+        } catch (MalformedURLException exception) {
+            return null;
+        }
+    }
+
+    @Override
+    protected Enumeration<URL> findResources(String name) {
+        URL url = findResource(name);
+        return url == null ? Collections.emptyEnumeration() : Collections.enumeration(Collections.singletonList(url));
+    }
+
+    private final class EntryHandler extends URLStreamHandler {
+        @Override
+        protected URLConnection openConnection(URL url) throws IOException {
+            byte[] bytes = entries.get(url.getPath().substring(1));
+            if (bytes == null) {
+                throw new IOException("Entry not found: " + url);
+            }
+
+            return new URLConnection(url) {
+                @Override
+                public void connect() {
+                }
+
+                @Override
+                public InputStream getInputStream() {
+                    return new ByteArrayInputStream(bytes);
+                }
+
+                @Override
+                public long getContentLengthLong() {
+                    return bytes.length;
+                }
+            };
+        }
+    }
+}
@@ -17,25 +17,34 @@
 
 package dev.wuason.toastapi.nms;
 
+import org.bukkit.Bukkit;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Constructor;
+import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 
 public final class NmsModuleLoader {
 
     private static final Map<String, LoadedModule> LOADED_MODULES = new ConcurrentHashMap<>();
 
+    private static volatile boolean extractToDisk = false;
+
     private NmsModuleLoader() {
     }
 
@@ -54,23 +63,96 @@ public final class NmsModuleLoader {
                 }
             });
 
-            Class<?> implementationClass = Class.forName(
-                    implementationClassName,
-                    true,
-                    loadedModule.classLoader()
-            );
+            try {
+                return instantiate(loadedModule, implementationClassName);
+            } catch (Exception | LinkageError exception) {
+                if (loadedModule.path() != null) {
+                    throw exception;
+                }
+                // The jar was read but its classes could not be defined in memory; retry from disk.
+                Bukkit.getLogger().warning("[SimpleToastApi] Could not define NMS module " + moduleName
+                        + " in memory, extracting it to disk: " + exception);
+                LOADED_MODULES.remove(moduleName, loadedModule);
+            }
 
-            Constructor<?> constructor = implementationClass.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            return (IToastWrapper) constructor.newInstance();
-        } catch (Exception exception) {
+            LoadedModule diskModule = LOADED_MODULES.computeIfAbsent(moduleName, key -> {
+                try {
+                    return loadFromDisk(key, findModule(key));
+                } catch (Exception exception) {
+                    throw new RuntimeException(exception);
+                }
+            });
+            return instantiate(diskModule, implementationClassName);
+        } catch (Exception | LinkageError exception) {
             throw new IllegalStateException("Failed to load NMS wrapper from module " + moduleName, exception);
         }
     }
 
-    private static LoadedModule loadModule(@NotNull String moduleName) throws IOException {
+    private static IToastWrapper instantiate(@NotNull LoadedModule loadedModule,
+                                             @NotNull String implementationClassName) throws Exception {
+        Class<?> implementationClass = Class.forName(
+                implementationClassName,
+                true,
+                loadedModule.classLoader()
+        );
+
+        Constructor<?> constructor = implementationClass.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return (IToastWrapper) constructor.newInstance();
+    }
+
+    /**
+     * Chooses whether dynamic modules are extracted to
+     * {@code plugins/Artz-Libraries/SimpleToastApi-NMS} and loaded from there instead of
+     * being defined in memory. Only affects modules that are not loaded yet.
+     *
+     * @param extractToDisk {@code true} to always load modules from disk
+     */
+    public static void setExtractToDisk(boolean extractToDisk) {
+        NmsModuleLoader.extractToDisk = extractToDisk;
+    }
+
+    private static URL findModule(@NotNull String moduleName) throws IOException {
         String resourcePath = "/nms_modules/" + moduleName + ".jar";
 
+        URL resource = NmsModuleLoader.class.getResource(resourcePath);
+        if (resource == null) {
+            throw new IOException("Resource not found: " + resourcePath);
+        }
+        return resource;
+    }
+
+    private static LoadedModule loadModule(@NotNull String moduleName) throws IOException {
+        URL resource = findModule(moduleName);
+
+        if (!extractToDisk) {
+            try {
+                return loadInMemory(moduleName, resource);
+            } catch (IOException | RuntimeException exception) {
+                Bukkit.getLogger().warning("[SimpleToastApi] Could not load NMS module " + moduleName
+                        + " in memory, extracting it to disk: " + exception.getMessage());
+            }
+        }
+
+        return loadFromDisk(moduleName, resource);
+    }
+
+    private static LoadedModule loadInMemory(@NotNull String moduleName, @NotNull URL resource) throws IOException {
+        URLConnection connection = resource.openConnection();
+        connection.setUseCaches(false);
+
+        try (InputStream inputStream = connection.getInputStream()) {
+            ClassLoader classLoader = InMemoryModuleClassLoader.read(
+                    moduleName,
+                    inputStream,
+                    resource,
+                    NmsModuleLoader.class.getClassLoader()
+            );
+            return new LoadedModule(null, classLoader);
+        }
+    }
+
+    private static LoadedModule loadFromDisk(@NotNull String moduleName, @NotNull URL resource) throws IOException {
         File pluginsDir = new File("plugins");
         File artzLibsDir = new File(pluginsDir, "Artz-Libraries");
         File moduleDirectory = new File(artzLibsDir, "SimpleToastApi-NMS");
@@ -80,12 +162,14 @@ public final class NmsModuleLoader {
         }
 
         File moduleFile = new File(moduleDirectory, moduleName + ".jar");
+        File stampFile = new File(moduleDirectory, moduleName + ".jar.stamp");
 
-        try (InputStream inputStream = NmsModuleLoader.class.getResourceAsStream(resourcePath)) {
-            if (inputStream == null) {
-                throw new IOException("Resource not found: " + resourcePath);
+        String stamp = readEmbeddedStamp(resource);
+        if (stamp == null || !isExtracted(moduleFile, stampFile, stamp)) {
+            extract(resource, moduleFile);
+            if (stamp != null) {
+                Files.writeString(stampFile.toPath(), stamp, StandardCharsets.UTF_8);
             }
-            Files.copy(inputStream, moduleFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
         }
 
         URLClassLoader classLoader = new URLClassLoader(
@@ -96,6 +180,51 @@ public final class NmsModuleLoader {
         return new LoadedModule(moduleFile.toPath(), classLoader);
     }
 
-    private record LoadedModule(Path path, URLClassLoader classLoader) {
+    /**
+     * Reads the CRC and size of the embedded module from the central directory of the
+     * outer jar, without inflating it.
+     *
+     * @return {@code "crc:size"}, or {@code null} if the resource is not inside a jar
+     */
+    @Nullable
+    private static String readEmbeddedStamp(@NotNull URL resource) throws IOException {
+        URLConnection connection = resource.openConnection();
+        if (!(connection instanceof JarURLConnection jarConnection)) {
+            return null;
+        }
+
+        jarConnection.setUseCaches(false);
+        try (JarFile jarFile = jarConnection.getJarFile()) {
+            JarEntry entry = jarFile.getJarEntry(jarConnection.getEntryName());
+            if (entry == null || entry.getCrc() == -1 || entry.getSize() == -1) {
+                return null;
+            }
+            return Long.toHexString(entry.getCrc()) + ":" + entry.getSize();
+        }
+    }
+
+    private static boolean isExtracted(@NotNull File moduleFile, @NotNull File stampFile, @NotNull String stamp) throws IOException {
+        if (!moduleFile.isFile() || !stampFile.isFile()) {
+            return false;
+        }
+
+        String size = stamp.substring(stamp.indexOf(':') + 1);
+        return Long.toString(moduleFile.length()).equals(size)
+                && stamp.equals(Files.readString(stampFile.toPath(), StandardCharsets.UTF_8).trim());
+    }
+
+    private static void extract(@NotNull URL resource, @NotNull File moduleFile) throws IOException {
+        Path target = moduleFile.toPath();
+        Path temporary = target.resolveSibling(moduleFile.getName() + ".tmp");
+
+        URLConnection connection = resource.openConnection();
+        connection.setUseCaches(false);
+        try (InputStream inputStream = connection.getInputStream()) {
+            Files.copy(inputStream, temporary, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private record LoadedModule(@Nullable Path path, ClassLoader classLoader) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.nms;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * Tells the NMS modules whether Paper's native Adventure conversion
+ * ({@code PaperAdventure.asVanilla}) can be used for the Adventure classes seen by this library.
+ *
+ * <p>It is not available on Spigot, or when Adventure has been relocated into the plugin,
+ * since the server method then takes a different {@link Component} class.
+ */
+public final class PaperAdventureSupport {
+
+    private static final boolean AVAILABLE = detect();
+
+    private PaperAdventureSupport() {
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    private static boolean detect() {
+        try {
+            Class.forName("io.papermc.paper.adventure.PaperAdventure")
+                    .getMethod("asVanilla", Component.class);
+            return true;
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            return false;
+        }
+    }
+}
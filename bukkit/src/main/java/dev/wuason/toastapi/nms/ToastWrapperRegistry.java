@@ -0,0 +1,253 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.nms;
+
+import dev.wuason.toastapi.metrics.ToastMetrics;
+import dev.wuason.toastapi.metrics.WrapperResolveEvent;
+import dev.wuason.toastapi.utils.EMinecraftVersion;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Resolves the {@link IToastWrapper} for the running server once and keeps it for
+ * the lifetime of the server.
+ *
+ * <p>The implementation class of every supported {@link EMinecraftVersion.NMSVersion}
+ * is computed up front, so resolving only costs a reflective lookup the first time.
+ * After that {@link #get()} is a single volatile read.
+ *
+ * <p>A failed resolution is logged once and remembered. It is retried with an exponential
+ * backoff, up to five attempts, and in between {@link #get()} returns {@code null}
+ * without locking. Unsupported versions are never retried.
+ */
+public final class ToastWrapperRegistry {
+
+    private static final Map<EMinecraftVersion.NMSVersion, String> IMPLEMENTATIONS = createImplementations();
+    private static final Map<EMinecraftVersion.NMSVersion, String> DYNAMIC_MODULES = createDynamicModules();
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long INITIAL_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final List<Runnable> CHANGE_LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile IToastWrapper wrapper = null;
+    private static volatile boolean overridden = false;
+    private static volatile boolean failed = false;
+    private static volatile long retryAtNanos = 0L;
+    private static volatile boolean terminal = false;
+    private static int attempts = 0;
+
+    private ToastWrapperRegistry() {
+    }
+
+    /**
+     * Returns the wrapper of the running server version, resolving it on first use.
+     *
+     * @return the active {@link IToastWrapper}, or {@code null} if it could not be loaded
+     */
+    @Nullable
+    public static IToastWrapper get() {
+        IToastWrapper current = wrapper;
+        if (current != null) {
+            return current;
+        }
+        if (failed && (terminal || System.nanoTime() - retryAtNanos < 0)) {
+            return null;
+        }
+
+        synchronized (ToastWrapperRegistry.class) {
+            if (wrapper == null && !terminal && (!failed || System.nanoTime() - retryAtNanos >= 0)) {
+                resolveLocked();
+            }
+            return wrapper;
+        }
+    }
+
+    /**
+     * @return {@code true} if the last resolution failed and no wrapper is available
+     */
+    public static boolean hasFailed() {
+        return failed;
+    }
+
+    /**
+     * Resolves the wrapper now instead of on the first toast, so loading (and extracting
+     * a dynamic module) happens during plugin enable.
+     *
+     * @return {@code true} if a wrapper is available
+     */
+    public static boolean preload() {
+        return get() != null;
+    }
+
+    /**
+     * Uses {@code override} instead of the wrapper of the running server
+     * (useful for tests and benchmarks that run without a server).
+     *
+     * @param override the wrapper to use, or {@code null} to resolve it again on the next {@link #get()}
+     */
+    public static void set(@Nullable IToastWrapper override) {
+        synchronized (ToastWrapperRegistry.class) {
+            clearFailure();
+            wrapper = override;
+            overridden = override != null;
+        }
+        fireChanged();
+    }
+
+    /**
+     * @return {@code true} if a wrapper was installed through {@link #set(IToastWrapper)}
+     */
+    public static boolean isOverridden() {
+        return overridden;
+    }
+
+    /**
+     * Drops the resolved wrapper, and any remembered failure, so the next {@link #get()}
+     * resolves it again (useful for reloads or tests).
+     */
+    public static void reset() {
+        synchronized (ToastWrapperRegistry.class) {
+            clearFailure();
+            wrapper = null;
+            overridden = false;
+        }
+        fireChanged();
+    }
+
+    /**
+     * Registers {@code listener} to run whenever the wrapper is replaced, so holders of a
+     * snapshot of it can drop that snapshot.
+     *
+     * @param listener the callback, run on the thread that made the change
+     */
+    public static void addChangeListener(@NotNull Runnable listener) {
+        CHANGE_LISTENERS.add(Objects.requireNonNull(listener, "listener cannot be null"));
+    }
+
+    private static void fireChanged() {
+        for (Runnable listener : CHANGE_LISTENERS) {
+            listener.run();
+        }
+    }
+
+    private static void resolveLocked() {
+        EMinecraftVersion.NMSVersion nmsVersion = EMinecraftVersion.getServerVersionSelected().getNMSVersion();
+        if (!IMPLEMENTATIONS.containsKey(nmsVersion)) {
+            Bukkit.getLogger().severe("[SimpleToastApi] Unsupported NMS version " + nmsVersion + ", toasts are disabled.");
+            ToastMetrics.recordWrapperFailure();
+            terminal = true;
+            failed = true;
+            return;
+        }
+
+        try {
+            boolean retried = failed;
+            wrapper = resolve(nmsVersion);
+            clearFailure();
+            if (retried) {
+                fireChanged();
+            }
+        } catch (Exception | LinkageError e) {
+            ToastMetrics.recordWrapperFailure();
+            attempts++;
+            terminal = attempts >= MAX_ATTEMPTS;
+            retryAtNanos = System.nanoTime() + backoffNanos(attempts);
+            failed = true;
+
+            if (attempts == 1) {
+                Bukkit.getLogger().log(Level.SEVERE, "[SimpleToastApi] Failed to load wrapper for " + nmsVersion
+                        + ", toasts are disabled until it loads.", e);
+            } else if (terminal) {
+                Bukkit.getLogger().severe("[SimpleToastApi] Failed to load wrapper for " + nmsVersion
+                        + " after " + attempts + " attempts, giving up: " + e);
+            }
+        }
+    }
+
+    private static long backoffNanos(int attempts) {
+        return Math.min(MAX_BACKOFF_NANOS, INITIAL_BACKOFF_NANOS << Math.min(attempts - 1, 16));
+    }
+
+    private static void clearFailure() {
+        failed = false;
+        terminal = false;
+        attempts = 0;
+        retryAtNanos = 0L;
+    }
+
+    @NotNull
+    private static IToastWrapper resolve(@NotNull EMinecraftVersion.NMSVersion nmsVersion) throws Exception {
+        WrapperResolveEvent event = new WrapperResolveEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            IToastWrapper resolved = load(nmsVersion);
+            success = true;
+            return resolved;
+        } finally {
+            event.complete(nmsVersion.name(), success);
+        }
+    }
+
+    @NotNull
+    private static IToastWrapper load(@NotNull EMinecraftVersion.NMSVersion nmsVersion) throws Exception {
+        String className = IMPLEMENTATIONS.get(nmsVersion);
+
+        String moduleName = DYNAMIC_MODULES.get(nmsVersion);
+        if (moduleName != null) {
+            return NmsModuleLoader.load(moduleName, className);
+        }
+
+        return (IToastWrapper) Class.forName(className)
+                .getDeclaredConstructors()[0]
+                .newInstance();
+    }
+
+    private static Map<EMinecraftVersion.NMSVersion, String> createImplementations() {
+        Map<EMinecraftVersion.NMSVersion, String> implementations = new EnumMap<>(EMinecraftVersion.NMSVersion.class);
+        for (EMinecraftVersion.NMSVersion nmsVersion : EMinecraftVersion.NMSVersion.values()) {
+            if (!nmsVersion.isSupported()) {
+                continue;
+            }
+            implementations.put(nmsVersion, String.format(
+                    "dev.wuason.toastapi.nms.v%s.ToastImpl",
+                    nmsVersion.getVersionName()
+            ));
+        }
+        return Collections.unmodifiableMap(implementations);
+    }
+
+    private static Map<EMinecraftVersion.NMSVersion, String> createDynamicModules() {
+        Map<EMinecraftVersion.NMSVersion, String> modules = new EnumMap<>(EMinecraftVersion.NMSVersion.class);
+        modules.put(EMinecraftVersion.NMSVersion.V26_1, "v26_1");
+        modules.put(EMinecraftVersion.NMSVersion.V26_1_1, "v26_1_1");
+        modules.put(EMinecraftVersion.NMSVersion.V26_1_2, "v26_1_2");
+        return Collections.unmodifiableMap(modules);
+    }
+}
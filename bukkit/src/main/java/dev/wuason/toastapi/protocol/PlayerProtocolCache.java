@@ -0,0 +1,98 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.protocol;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the protocol version of every online player, since it cannot change during a session.
+ *
+ * <p>Protocols are filled on {@link PlayerJoinEvent} (or on the first lookup) and dropped on
+ * {@link PlayerQuitEvent}, so after the join the delegate library is never queried again.
+ */
+public final class PlayerProtocolCache implements PlayerVersion, Listener {
+
+    private final PlayerVersion delegate;
+    private final Map<UUID, Integer> protocols = new ConcurrentHashMap<>();
+
+    public PlayerProtocolCache(@NotNull PlayerVersion delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public int getProtocol(Player player) {
+        Integer protocol = protocols.get(player.getUniqueId());
+        if (protocol != null) {
+            return protocol;
+        }
+        return load(player);
+    }
+
+    /**
+     * Caches the protocol of every player that is already online.
+     */
+    public void loadOnlinePlayers() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            load(player);
+        }
+    }
+
+    public void invalidate(@NotNull Player player) {
+        protocols.remove(player.getUniqueId());
+    }
+
+    public void clear() {
+        protocols.clear();
+    }
+
+    @NotNull
+    public PlayerVersion getDelegate() {
+        return delegate;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        load(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    private int load(Player player) {
+        int protocol = delegate.getProtocol(player);
+        // Only cache valid versions of connected players, a late lookup must not outlive the quit.
+        if (protocol > 0 && player.isOnline()) {
+            protocols.put(player.getUniqueId(), protocol);
+        }
+        return protocol;
+    }
+}
@@ -22,6 +22,13 @@ import dev.wuason.toastapi.protocol.lib.PacketEvents;
 import dev.wuason.toastapi.protocol.lib.ProtocolLib;
 import dev.wuason.toastapi.protocol.lib.ViaVersion;
 import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Resolves the best available {@link PlayerVersion} provider at startup.
@@ -36,6 +43,8 @@ import org.bukkit.Bukkit;
  */
 public class PlayerVersionProvider {
 
+    private static final List<Runnable> CHANGE_LISTENERS = new CopyOnWriteArrayList<>();
+
     private static volatile PlayerVersion instance = null;
 
     private PlayerVersionProvider() {
@@ -64,11 +73,78 @@ public class PlayerVersionProvider {
 
     /**
      * Forces re-resolution of the provider (useful for reloads or tests).
+     * The per-player cache is disabled as well.
      */
     public static void reset() {
         synchronized (PlayerVersionProvider.class) {
+            disableCache();
             instance = null;
         }
+        fireChanged();
+    }
+
+    /**
+     * Uses {@code provider} instead of resolving one from the installed plugins
+     * (useful for custom detection, tests or benchmarks).
+     *
+     * @param provider the {@link PlayerVersion} implementation to use
+     */
+    public static void set(PlayerVersion provider) {
+        synchronized (PlayerVersionProvider.class) {
+            disableCache();
+            instance = Objects.requireNonNull(provider, "provider cannot be null");
+        }
+        fireChanged();
+    }
+
+    /**
+     * Wraps the resolved provider in a {@link PlayerProtocolCache} and registers it as a
+     * listener of {@code plugin}, so protocols are looked up once per session.
+     *
+     * @param plugin the plugin that owns the join/quit listener
+     */
+    public static void enableCache(Plugin plugin) {
+        synchronized (PlayerVersionProvider.class) {
+            if (instance instanceof PlayerProtocolCache) {
+                return;
+            }
+
+            PlayerProtocolCache cache = new PlayerProtocolCache(get());
+            Bukkit.getPluginManager().registerEvents(cache, plugin);
+            cache.loadOnlinePlayers();
+            instance = cache;
+        }
+        fireChanged();
+    }
+
+    /**
+     * Unregisters the per-player cache and goes back to querying the provider directly.
+     */
+    public static void disableCache() {
+        synchronized (PlayerVersionProvider.class) {
+            if (instance instanceof PlayerProtocolCache cache) {
+                HandlerList.unregisterAll(cache);
+                cache.clear();
+                instance = cache.getDelegate();
+            }
+        }
+        fireChanged();
+    }
+
+    /**
+     * Registers {@code listener} to run whenever the provider is replaced, so holders of a
+     * snapshot of it can drop that snapshot.
+     *
+     * @param listener the callback, run on the thread that made the change
+     */
+    public static void addChangeListener(@NotNull Runnable listener) {
+        CHANGE_LISTENERS.add(Objects.requireNonNull(listener, "listener cannot be null"));
+    }
+
+    private static void fireChanged() {
+        for (Runnable listener : CHANGE_LISTENERS) {
+            listener.run();
+        }
     }
 
     private static PlayerVersion resolve() {
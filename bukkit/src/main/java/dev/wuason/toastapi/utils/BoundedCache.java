@@ -0,0 +1,201 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe cache bounded both by entry count and by total weight, evicting the least
+ * recently used entries first.
+ *
+ * <p>Lookups never lock: a hit is a {@link ConcurrentHashMap} read plus a store of the access
+ * time. Only inserts and evictions take the lock. Recency is tracked with access timestamps,
+ * so the order is approximate under concurrent hits. When a bound is exceeded, the oldest
+ * entries are evicted in one batch, down to about 15/16 of the bound, so a full cache does not
+ * sort its entries on every insert.
+ *
+ * <p>Values are loaded outside the lock, so a slow loader never blocks readers of other keys.
+ * Two threads missing the same key at the same time may both load it; the last one wins.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class BoundedCache<K, V> {
+
+    private static final int EVICTION_BATCH_DIVISOR = 16;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private final ToLongFunction<? super K> weigher;
+    private final UnaryOperator<K> keySnapshot;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private int maxEntries;
+    private long maxWeight;
+    private long weight;
+
+    /**
+     * @param maxEntries the maximum number of entries, {@code 0} disables caching
+     * @param maxWeight  the maximum total weight of all entries
+     * @param weigher    computes the weight of an entry from its key
+     */
+    public BoundedCache(int maxEntries, long maxWeight, @NotNull ToLongFunction<? super K> weigher) {
+        this(maxEntries, maxWeight, weigher, UnaryOperator.identity());
+    }
+
+    /**
+     * @param maxEntries  the maximum number of entries, {@code 0} disables caching
+     * @param maxWeight   the maximum total weight of all entries
+     * @param weigher     computes the weight of an entry from its key
+     * @param keySnapshot copies a key before it is stored, for mutable keys
+     */
+    public BoundedCache(int maxEntries, long maxWeight,
+                        @NotNull ToLongFunction<? super K> weigher,
+                        @NotNull UnaryOperator<K> keySnapshot) {
+        this.weigher = Objects.requireNonNull(weigher);
+        this.keySnapshot = Objects.requireNonNull(keySnapshot);
+        setLimits(maxEntries, maxWeight);
+    }
+
+    /**
+     * Returns the cached value of {@code key}, loading and caching it on a miss.
+     * Exceptions thrown by the loader are propagated and nothing is cached.
+     */
+    public V get(@NotNull K key, @NotNull Function<? super K, ? extends V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            entry.lastAccess = System.nanoTime();
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+        long entryWeight = weigher.applyAsLong(key);
+
+        synchronized (lock) {
+            if (maxEntries == 0 || entryWeight > maxWeight) {
+                return value;
+            }
+
+            Entry<V> previous = entries.put(keySnapshot.apply(key), new Entry<>(value, entryWeight));
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entryWeight;
+            if (entries.size() > maxEntries || weight > maxWeight) {
+                evictExcess();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Changes the bounds of the cache, evicting the least recently used entries if needed.
+     */
+    public void setLimits(int maxEntries, long maxWeight) {
+        if (maxEntries < 0 || maxWeight < 0) {
+            throw new IllegalArgumentException("Cache limits cannot be negative");
+        }
+
+        synchronized (lock) {
+            this.maxEntries = maxEntries;
+            this.maxWeight = maxWeight;
+            if (entries.size() > maxEntries || weight > maxWeight) {
+                evictExcess();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long weight() {
+        synchronized (lock) {
+            return weight;
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void evictExcess() {
+        int targetEntries = maxEntries - maxEntries / EVICTION_BATCH_DIVISOR;
+        long targetWeight = maxWeight - maxWeight / EVICTION_BATCH_DIVISOR;
+
+        // Access times keep changing under concurrent hits, so sort a snapshot of them.
+        List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+        entries.forEach((key, entry) -> candidates.add(new Candidate<>(key, entry, entry.lastAccess)));
+        candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+
+        for (Candidate<K, V> candidate : candidates) {
+            if (entries.size() <= targetEntries && weight <= targetWeight) {
+                return;
+            }
+            if (entries.remove(candidate.key(), candidate.entry())) {
+                weight -= candidate.entry().weight;
+                evictions.increment();
+            }
+        }
+    }
+
+    private record Candidate<K, V>(K key, Entry<V> entry, long lastAccess) {
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -17,10 +17,35 @@
 
 package dev.wuason.toastapi.utils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 
 public final class Colors {
+
+    private static final String EMPTY_COMPONENT = "{\"text\":\"\"}";
+    private static final String EXTRA_PREFIX = "{\"text\":\"\",\"extra\":[";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final String[] COLOR_NAMES = {
+            "black", "dark_blue", "dark_green", "dark_aqua", "dark_red", "dark_purple", "gold", "gray",
+            "dark_gray", "blue", "green", "aqua", "red", "light_purple", "yellow", "white"
+    };
+
+    private static final int NO_COLOR = -1;
+    private static final int HEX_COLOR = COLOR_NAMES.length;
+
+    private static final int BOLD = 1;
+    private static final int ITALIC = 1 << 1;
+    private static final int UNDERLINED = 1 << 2;
+    private static final int STRIKETHROUGH = 1 << 3;
+    private static final int OBFUSCATED = 1 << 4;
+
+    private static final int MAX_RETAINED_BUFFER = 8192;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private Colors() {
+    }
+
     /**
      * Converts a String with format codes (&x and &#RRGGBB) to a Text Component JSON.
      * <p>
@@ -37,170 +62,417 @@ public final class Colors {
      * @return Text Component JSON
      */
     public static String toJsonTextComponent(String input) {
+        return toJsonTextComponent(input, false);
+    }
+
+    /**
+     * Same as {@link #toJsonTextComponent(String)}, optionally in compact mode.
+     * <p>
+     * In compact mode adjacent segments with the same style are merged, so codes that do not
+     * change the style (e.g. "&a&aHello" or "&l" when already bold) add nothing, and a single
+     * styled segment is written as {"text":"...", "color":"...", ...} without "extra". The
+     * client renders both forms the same way.
+     *
+     * @param input   Input text with format codes using '&' as prefix and hex as '&#RRGGBB'
+     * @param compact whether to merge segments with the same style
+     * @return Text Component JSON
+     */
+    public static String toJsonTextComponent(String input, boolean compact) {
         if (input == null || input.isEmpty()) {
-            return "{\"text\":\"\"}";
+            return EMPTY_COMPONENT;
         }
 
-        List<Segment> segments = new ArrayList<>();
-        StringBuilder currentText = new StringBuilder();
-        Style current = new Style();
-        boolean usedCodes = false;
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        write(input, buffer, compact);
+        String json = buffer.toString();
+
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return json;
+    }
+
+    /**
+     * Same as {@link #toJsonTextComponent(String)}, but writes the JSON to {@code out}.
+     *
+     * @param input Input text with format codes using '&' as prefix and hex as '&#RRGGBB'
+     * @param out   the appendable receiving the JSON
+     * @throws IOException if {@code out} fails
+     */
+    public static void appendJsonTextComponent(CharSequence input, Appendable out) throws IOException {
+        appendJsonTextComponent(input, out, false);
+    }
+
+    /**
+     * Same as {@link #toJsonTextComponent(String, boolean)}, but writes the JSON to {@code out}.
+     *
+     * @param input   Input text with format codes using '&' as prefix and hex as '&#RRGGBB'
+     * @param out     the appendable receiving the JSON
+     * @param compact whether to merge segments with the same style
+     * @throws IOException if {@code out} fails
+     */
+    public static void appendJsonTextComponent(CharSequence input, Appendable out, boolean compact) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            appendJsonTextComponent(input, builder, compact);
+            return;
+        }
+
+        if (input == null || input.isEmpty()) {
+            out.append(EMPTY_COMPONENT);
+            return;
+        }
+
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        write(input, buffer, compact);
+        out.append(buffer);
+
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+    }
+
+    /**
+     * Same as {@link #toJsonTextComponent(String)}, but appends the JSON to {@code out}
+     * without building any intermediate string. The text of every segment is a range of
+     * {@code input} between two codes, so it is escaped straight from the input.
+     *
+     * @param input Input text with format codes using '&' as prefix and hex as '&#RRGGBB'
+     * @param out   the builder receiving the JSON
+     */
+    public static void appendJsonTextComponent(CharSequence input, StringBuilder out) {
+        appendJsonTextComponent(input, out, false);
+    }
+
+    /**
+     * Same as {@link #toJsonTextComponent(String, boolean)}, but appends the JSON to {@code out}.
+     *
+     * @param input   Input text with format codes using '&' as prefix and hex as '&#RRGGBB'
+     * @param out     the builder receiving the JSON
+     * @param compact whether to merge segments with the same style
+     */
+    public static void appendJsonTextComponent(CharSequence input, StringBuilder out, boolean compact) {
+        if (input == null || input.isEmpty()) {
+            out.append(EMPTY_COMPONENT);
+            return;
+        }
+        write(input, out, compact);
+    }
+
+    /**
+     * Same as {@link #toJsonTextComponent(String)}, but writes the JSON as UTF-8 at the
+     * position of {@code out}, which may be a direct buffer. No {@code String} is created.
+     *
+     * @param input Input text with format codes using '&' as prefix and hex as '&#RRGGBB'
+     * @param out   the buffer receiving the UTF-8 JSON
+     * @return the number of bytes written
+     * @throws java.nio.BufferOverflowException if the JSON does not fit; nothing is written then
+     */
+    public static int writeJsonTextComponent(CharSequence input, ByteBuffer out) {
+        return writeJsonTextComponent(input, out, false);
+    }
+
+    /**
+     * Same as {@link #toJsonTextComponent(String, boolean)}, but writes the JSON as UTF-8 at
+     * the position of {@code out}, which may be a direct buffer. No {@code String} is created.
+     *
+     * @param input   Input text with format codes using '&' as prefix and hex as '&#RRGGBB'
+     * @param out     the buffer receiving the UTF-8 JSON
+     * @param compact whether to merge segments with the same style
+     * @return the number of bytes written
+     * @throws java.nio.BufferOverflowException if the JSON does not fit; nothing is written then
+     */
+    public static int writeJsonTextComponent(CharSequence input, ByteBuffer out, boolean compact) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        appendJsonTextComponent(input, buffer, compact);
+        int written = Utf8.encode(buffer, out);
+
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return written;
+    }
 
+    private static void write(CharSequence input, StringBuilder out, boolean compact) {
+        final int start = out.length();
         final int len = input.length();
+
+        int color = NO_COLOR;
+        int hexStart = -1;
+        int flags = 0;
+
+        boolean usedCodes = false;
+        int textStart = 0;
+        int segments = 0;
+
+        // Style of the last written segment, whose text is left open in compact mode
+        boolean open = false;
+        int openColor = NO_COLOR;
+        int openHexStart = -1;
+        int openFlags = 0;
+
         int i = 0;
-        while (i < len) {
-            char ch = input.charAt(i);
-
-            if (ch == '&') {
-                if (i + 1 < len && input.charAt(i + 1) == '#') {
-                    if (i + 7 < len) {
-                        String hex = input.substring(i + 2, i + 8);
-                        if (isHex6(hex)) {
-                            if (!currentText.isEmpty()) {
-                                segments.add(new Segment(currentText.toString(), current.copy()));
-                                currentText.setLength(0);
-                            }
-                            current.color = "#" + hex.toLowerCase();
-                            current.resetFormatting();
-                            usedCodes = true;
-                            i += 8;
-                            continue;
-                        }
-                    }
+        while (true) {
+            int codeLength = 0;
+            if (i < len) {
+                codeLength = codeLength(input, i);
+                if (codeLength == 0) {
+                    i++;
+                    continue;
                 }
+            } else if (!usedCodes) {
+                out.append("{\"text\":\"");
+                escapeJson(input, 0, len, out);
+                out.append("\"}");
+                return;
+            }
 
-                if (i + 1 < len) {
-                    char code = Character.toLowerCase(input.charAt(i + 1));
-
-                    String colorName = mapColor(code);
-                    if (colorName != null) {
-                        if (!currentText.isEmpty()) {
-                            segments.add(new Segment(currentText.toString(), current.copy()));
-                            currentText.setLength(0);
-                        }
-                        current.color = colorName;
-                        current.resetFormatting();
-                        usedCodes = true;
-                        i += 2;
-                        continue;
+            if (textStart < i) {
+                if (open && sameStyle(input, openColor, openHexStart, openFlags, color, hexStart, flags)) {
+                    escapeJson(input, textStart, i, out);
+                } else {
+                    if (open) {
+                        closeSegment(out, input, openColor, openHexStart, openFlags);
                     }
+                    out.append(segments == 0 ? EXTRA_PREFIX : ",");
+                    out.append("{\"text\":\"");
+                    escapeJson(input, textStart, i, out);
+                    segments++;
 
-                    boolean recognized = true;
-                    if (code == 'k') {
-                        if (!currentText.isEmpty()) {
-                            segments.add(new Segment(currentText.toString(), current.copy()));
-                            currentText.setLength(0);
-                        }
-                        current.obfuscated = true;
-                    } else if (code == 'l') {
-                        if (!currentText.isEmpty()) {
-                            segments.add(new Segment(currentText.toString(), current.copy()));
-                            currentText.setLength(0);
-                        }
-                        current.bold = true;
-                    } else if (code == 'm') {
-                        if (!currentText.isEmpty()) {
-                            segments.add(new Segment(currentText.toString(), current.copy()));
-                            currentText.setLength(0);
-                        }
-                        current.strikethrough = true;
-                    } else if (code == 'n') {
-                        if (!currentText.isEmpty()) {
-                            segments.add(new Segment(currentText.toString(), current.copy()));
-                            currentText.setLength(0);
-                        }
-                        current.underlined = true;
-                    } else if (code == 'o') {
-                        if (!currentText.isEmpty()) {
-                            segments.add(new Segment(currentText.toString(), current.copy()));
-                            currentText.setLength(0);
-                        }
-                        current.italic = true;
-                    } else if (code == 'r') {
-                        if (!currentText.isEmpty()) {
-                            segments.add(new Segment(currentText.toString(), current.copy()));
-                            currentText.setLength(0);
-                        }
-                        current = new Style();
+                    if (compact) {
+                        open = true;
+                        openColor = color;
+                        openHexStart = hexStart;
+                        openFlags = flags;
                     } else {
-                        recognized = false;
+                        closeSegment(out, input, color, hexStart, flags);
                     }
+                }
+            }
 
-                    if (recognized) {
-                        usedCodes = true;
-                        i += 2;
-                        continue;
-                    }
+            if (i >= len) {
+                break;
+            }
+
+            if (codeLength == 8) {
+                color = HEX_COLOR;
+                hexStart = i + 2;
+                flags = 0;
+            } else {
+                char code = Character.toLowerCase(input.charAt(i + 1));
+                int index = colorIndex(code);
+                if (index != NO_COLOR) {
+                    color = index;
+                    flags = 0;
+                } else if (code == 'r') {
+                    color = NO_COLOR;
+                    flags = 0;
+                } else {
+                    flags |= formatFlag(code);
                 }
+            }
 
-                currentText.append('&');
-                i++;
-                continue;
+            usedCodes = true;
+            i += codeLength;
+            textStart = i;
+        }
+
+        if (open) {
+            closeSegment(out, input, openColor, openHexStart, openFlags);
+        }
+
+        if (segments == 0) {
+            out.append(EMPTY_COMPONENT);
+        } else if (compact && segments == 1) {
+            out.delete(start, start + EXTRA_PREFIX.length());
+        } else {
+            out.append("]}");
+        }
+    }
+
+    /**
+     * Receives the styled runs found by {@link #forEachRun(String, RunConsumer)}.
+     */
+    @FunctionalInterface
+    public interface RunConsumer {
+        /**
+         * @param text  the text of the run, never empty
+         * @param color a named color, a hex color ({@code "#rrggbb"}), or {@code null} for the default color
+         */
+        void accept(String text, String color,
+                    boolean bold, boolean italic, boolean underlined, boolean strikethrough, boolean obfuscated);
+    }
+
+    /**
+     * Splits a String with format codes into styled runs, following the same rules as
+     * {@link #toJsonTextComponent(String)}, and hands each one to {@code consumer} in order.
+     * Adjacent runs may share a style; merging them is left to the caller.
+     *
+     * @param input    Input text with format codes using '&' as prefix and hex as '&#RRGGBB'
+     * @param consumer receives every non-empty run
+     */
+    public static void forEachRun(String input, RunConsumer consumer) {
+        if (input == null || input.isEmpty()) {
+            return;
+        }
+
+        int color = NO_COLOR;
+        int hexStart = -1;
+        int flags = 0;
+        int textStart = 0;
+
+        final int len = input.length();
+        int i = 0;
+        while (true) {
+            int codeLength = 0;
+            if (i < len) {
+                codeLength = codeLength(input, i);
+                if (codeLength == 0) {
+                    i++;
+                    continue;
+                }
+            }
+
+            if (textStart < i) {
+                consumer.accept(
+                        input.substring(textStart, i),
+                        colorName(input, color, hexStart),
+                        (flags & BOLD) != 0,
+                        (flags & ITALIC) != 0,
+                        (flags & UNDERLINED) != 0,
+                        (flags & STRIKETHROUGH) != 0,
+                        (flags & OBFUSCATED) != 0
+                );
+            }
+
+            if (i >= len) {
+                break;
             }
 
-            currentText.append(ch);
-            i++;
+            if (codeLength == 8) {
+                color = HEX_COLOR;
+                hexStart = i + 2;
+                flags = 0;
+            } else {
+                char code = Character.toLowerCase(input.charAt(i + 1));
+                int index = colorIndex(code);
+                if (index != NO_COLOR) {
+                    color = index;
+                    flags = 0;
+                } else if (code == 'r') {
+                    color = NO_COLOR;
+                    flags = 0;
+                } else {
+                    flags |= formatFlag(code);
+                }
+            }
+
+            i += codeLength;
+            textStart = i;
         }
+    }
 
-        if (!currentText.isEmpty()) {
-            segments.add(new Segment(currentText.toString(), current.copy()));
+    private static String colorName(CharSequence input, int color, int hexStart) {
+        if (color == NO_COLOR) {
+            return null;
+        }
+        if (color != HEX_COLOR) {
+            return COLOR_NAMES[color];
         }
 
-        if (!usedCodes) {
-            return "{\"text\":\"" + escapeJson(input) + "\"}";
+        char[] hex = new char[7];
+        hex[0] = '#';
+        for (int i = 0; i < 6; i++) {
+            hex[i + 1] = Character.toLowerCase(input.charAt(hexStart + i));
         }
+        return new String(hex);
+    }
+
+    /**
+     * Returns the length of the code starting at {@code i}: 8 for a hex color, 2 for a
+     * legacy code, or 0 if there is no recognized code there.
+     */
+    private static int codeLength(CharSequence input, int i) {
+        final int len = input.length();
+        if (input.charAt(i) != '&' || i + 1 >= len) {
+            return 0;
+        }
+
+        char next = input.charAt(i + 1);
+        if (next == '#' && i + 7 < len && isHex6(input, i + 2)) {
+            return 8;
+        }
+
+        char code = Character.toLowerCase(next);
+        if (colorIndex(code) == NO_COLOR && formatFlag(code) == 0 && code != 'r') {
+            return 0;
+        }
+        return 2;
+    }
+
+    private static void closeSegment(StringBuilder out, CharSequence input, int color, int hexStart, int flags) {
+        out.append('"');
 
-        if (segments.isEmpty()) {
-            return "{\"text\":\"\"}";
+        if (color == HEX_COLOR) {
+            out.append(",\"color\":\"#");
+            for (int i = hexStart; i < hexStart + 6; i++) {
+                out.append(Character.toLowerCase(input.charAt(i)));
+            }
+            out.append('"');
+        } else if (color != NO_COLOR) {
+            out.append(",\"color\":\"").append(COLOR_NAMES[color]).append('"');
         }
 
-        StringBuilder out = new StringBuilder();
-        out.append("{\"text\":\"\",\"extra\":[");
-        for (int idx = 0; idx < segments.size(); idx++) {
-            Segment seg = segments.get(idx);
-            if (idx > 0) out.append(',');
+        if ((flags & BOLD) != 0) out.append(",\"bold\":true");
+        if ((flags & ITALIC) != 0) out.append(",\"italic\":true");
+        if ((flags & UNDERLINED) != 0) out.append(",\"underlined\":true");
+        if ((flags & STRIKETHROUGH) != 0) out.append(",\"strikethrough\":true");
+        if ((flags & OBFUSCATED) != 0) out.append(",\"obfuscated\":true");
+        out.append('}');
+    }
 
-            out.append('{');
-            out.append("\"text\":\"").append(escapeJson(seg.text)).append("\"");
-            if (seg.style.color != null) {
-                out.append(",\"color\":\"").append(seg.style.color).append("\"");
+    private static boolean sameStyle(CharSequence input,
+                                     int color, int hexStart, int flags,
+                                     int otherColor, int otherHexStart, int otherFlags) {
+        if (color != otherColor || flags != otherFlags) {
+            return false;
+        }
+        if (color != HEX_COLOR) {
+            return true;
+        }
+        for (int i = 0; i < 6; i++) {
+            if (Character.toLowerCase(input.charAt(hexStart + i)) != Character.toLowerCase(input.charAt(otherHexStart + i))) {
+                return false;
             }
-            if (seg.style.bold) out.append(",\"bold\":true");
-            if (seg.style.italic) out.append(",\"italic\":true");
-            if (seg.style.underlined) out.append(",\"underlined\":true");
-            if (seg.style.strikethrough) out.append(",\"strikethrough\":true");
-            if (seg.style.obfuscated) out.append(",\"obfuscated\":true");
-            out.append('}');
         }
-        out.append("]}");
-        return out.toString();
+        return true;
     }
 
-    private static String mapColor(char code) {
+    private static int colorIndex(char code) {
+        if (code >= '0' && code <= '9') {
+            return code - '0';
+        }
+        if (code >= 'a' && code <= 'f') {
+            return code - 'a' + 10;
+        }
+        return NO_COLOR;
+    }
+
+    private static int formatFlag(char code) {
         return switch (code) {
-            case '0' -> "black";
-            case '1' -> "dark_blue";
-            case '2' -> "dark_green";
-            case '3' -> "dark_aqua";
-            case '4' -> "dark_red";
-            case '5' -> "dark_purple";
-            case '6' -> "gold";
-            case '7' -> "gray";
-            case '8' -> "dark_gray";
-            case '9' -> "blue";
-            case 'a' -> "green";
-            case 'b' -> "aqua";
-            case 'c' -> "red";
-            case 'd' -> "light_purple";
-            case 'e' -> "yellow";
-            case 'f' -> "white";
-            default -> null;
+            case 'k' -> OBFUSCATED;
+            case 'l' -> BOLD;
+            case 'm' -> STRIKETHROUGH;
+            case 'n' -> UNDERLINED;
+            case 'o' -> ITALIC;
+            default -> 0;
         };
     }
 
-    private static boolean isHex6(String s) {
-        if (s.length() != 6) return false;
-        for (int i = 0; i < 6; i++) {
+    private static boolean isHex6(CharSequence s, int start) {
+        for (int i = start; i < start + 6; i++) {
             char c = s.charAt(i);
             boolean digit = (c >= '0' && c <= '9');
             boolean lower = (c >= 'a' && c <= 'f');
@@ -210,71 +482,44 @@ public final class Colors {
         return true;
     }
 
-    private static String escapeJson(String s) {
-        StringBuilder sb = new StringBuilder((int) (s.length() * 1.1));
-        for (int i = 0; i < s.length(); i++) {
+    private static void escapeJson(CharSequence s, int start, int end, StringBuilder out) {
+        int run = start;
+        for (int i = start; i < end; i++) {
             char c = s.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+
+            out.append(s, run, i);
+            run = i + 1;
             switch (c) {
                 case '"':
-                    sb.append("\\\"");
+                    out.append("\\\"");
                     break;
                 case '\\':
-                    sb.append("\\\\");
+                    out.append("\\\\");
                     break;
                 case '\b':
-                    sb.append("\\b");
+                    out.append("\\b");
                     break;
                 case '\f':
-                    sb.append("\\f");
+                    out.append("\\f");
                     break;
                 case '\n':
-                    sb.append("\\n");
+                    out.append("\\n");
                     break;
                 case '\r':
-                    sb.append("\\r");
+                    out.append("\\r");
                     break;
                 case '\t':
-                    sb.append("\\t");
+                    out.append("\\t");
                     break;
                 default:
-                    if (c < 0x20) {
-                        sb.append(String.format("\\u%04x", (int) c));
-                    } else {
-                        sb.append(c);
-                    }
+                    out.append("\\u00")
+                            .append(HEX_DIGITS[c >> 4])
+                            .append(HEX_DIGITS[c & 0xF]);
             }
         }
-        return sb.toString();
-    }
-
-    private static final class Style {
-        String color = null;
-        boolean bold = false;
-        boolean italic = false;
-        boolean underlined = false;
-        boolean strikethrough = false;
-        boolean obfuscated = false;
-
-        Style copy() {
-            Style s = new Style();
-            s.color = this.color;
-            s.bold = this.bold;
-            s.italic = this.italic;
-            s.underlined = this.underlined;
-            s.strikethrough = this.strikethrough;
-            s.obfuscated = this.obfuscated;
-            return s;
-        }
-
-        void resetFormatting() {
-            this.bold = false;
-            this.italic = false;
-            this.underlined = false;
-            this.strikethrough = false;
-            this.obfuscated = false;
-        }
-    }
-
-    private record Segment(String text, Style style) {
+        out.append(s, run, end);
     }
 }
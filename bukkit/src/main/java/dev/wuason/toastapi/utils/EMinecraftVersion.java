@@ -19,6 +19,9 @@ package dev.wuason.toastapi.utils;
 
 import org.bukkit.Bukkit;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 public enum EMinecraftVersion {
@@ -73,7 +76,27 @@ public enum EMinecraftVersion {
      * It is initialized to null, indicating that no version has been selected upon
      * initialization.
      */
-    private static EMinecraftVersion serverVersionSelected = null;
+    private static volatile EMinecraftVersion serverVersionSelected = null;
+
+    private static final EMinecraftVersion[] VALUES = values();
+
+    /**
+     * Lowest protocol number of a supported version, the offset of {@link #BY_PROTOCOL}.
+     */
+    private static final int MIN_PROTOCOL = minProtocol();
+
+    /**
+     * Versions indexed by {@code protocol - MIN_PROTOCOL}. When several versions share a
+     * protocol the first declared one is kept, and protocols without a version map to
+     * {@link #UNSUPPORTED}.
+     */
+    private static final EMinecraftVersion[] BY_PROTOCOL = createProtocolTable();
+
+    /**
+     * Versions keyed by both their dotted name ({@code "1.21.4"}) and their enum key
+     * without the leading {@code V} ({@code "1_21_4"}).
+     */
+    private static final Map<String, EMinecraftVersion> BY_NAME = createNameTable();
 
     /**
      * The version number of the current instance.
@@ -89,6 +112,10 @@ public enum EMinecraftVersion {
      * Since this is a final variable, once assigned, its reference cannot be changed.
      */
     private final NMSVersion nmsVersion;
+    /**
+     * The version name, computed once from the constant name.
+     */
+    private final String versionName;
 
     /**
      * Initializes a new instance of the MinecraftVersion class with the specified version number
@@ -101,6 +128,7 @@ public enum EMinecraftVersion {
     EMinecraftVersion(int versionNumber, NMSVersion nmsVersion) {
         this.versionNumber = versionNumber;
         this.nmsVersion = Objects.requireNonNullElse(nmsVersion, NMSVersion.UNSUPPORTED);
+        this.versionName = name().replace("V", "").replace("_", ".");
     }
 
     /**
@@ -110,13 +138,16 @@ public enum EMinecraftVersion {
      * @return the corresponding MinecraftVersion enum if it exists, else returns UNSUPPORTED.
      */
     public static EMinecraftVersion fromString(String version) {
-        String normalized = version.replace(".", "_");
+        EMinecraftVersion found = BY_NAME.get(version);
+        if (found != null) {
+            return found;
+        }
 
-        try {
-            return valueOf("V" + normalized);
-        } catch (IllegalArgumentException e) {
-            return UNSUPPORTED;
+        // Mixed separators such as "1.21_4" were accepted by the old valueOf lookup.
+        if (version.indexOf('.') >= 0 && version.indexOf('_') >= 0) {
+            return BY_NAME.getOrDefault(version.replace('.', '_'), UNSUPPORTED);
         }
+        return UNSUPPORTED;
     }
 
     /**
@@ -127,10 +158,11 @@ public enum EMinecraftVersion {
      * or UNSUPPORTED if no matching version is found.
      */
     public static EMinecraftVersion fromVersionNumber(int i) {
-        for (EMinecraftVersion srv : values()) {
-            if (srv.versionNumber == i) return srv;
+        int index = i - MIN_PROTOCOL;
+        if (index < 0 || index >= BY_PROTOCOL.length) {
+            return UNSUPPORTED;
         }
-        return UNSUPPORTED;
+        return BY_PROTOCOL[index];
     }
 
     /**
@@ -140,18 +172,19 @@ public enum EMinecraftVersion {
      * @return The selected Minecraft server version.
      */
     public static EMinecraftVersion getServerVersionSelected() {
-        if (serverVersionSelected != null) {
-            return serverVersionSelected;
+        EMinecraftVersion selected = serverVersionSelected;
+        if (selected != null) {
+            return selected;
         }
 
         synchronized (EMinecraftVersion.class) {
-            if (serverVersionSelected != null) {
-                return serverVersionSelected;
+            selected = serverVersionSelected;
+            if (selected == null) {
+                selected = resolveVersion();
+                serverVersionSelected = selected;
             }
-            serverVersionSelected = resolveVersion();
+            return selected;
         }
-
-        return serverVersionSelected;
     }
 
     private static EMinecraftVersion resolveVersion() {
@@ -246,7 +279,7 @@ public enum EMinecraftVersion {
      * @return The second to last Minecraft version indicating the last officially supported version.
      */
     public static EMinecraftVersion getLastSupportedVersion() {
-        return values()[values().length - 2];
+        return VALUES[VALUES.length - 2];
     }
 
     /**
@@ -274,7 +307,7 @@ public enum EMinecraftVersion {
      * @return A String representing the version name of the enum constant, with "V" removed and underscores replaced by dots.
      */
     public String getVersionName() {
-        return name().replace("V", "").replace("_", ".");
+        return versionName;
     }
 
     /**
@@ -318,6 +351,49 @@ public enum EMinecraftVersion {
         return versionNumber <= otherVersion.versionNumber;
     }
 
+    private static int minProtocol() {
+        int min = Integer.MAX_VALUE;
+        for (EMinecraftVersion version : VALUES) {
+            if (version != UNSUPPORTED) {
+                min = Math.min(min, version.versionNumber);
+            }
+        }
+        return min;
+    }
+
+    private static EMinecraftVersion[] createProtocolTable() {
+        int max = MIN_PROTOCOL;
+        for (EMinecraftVersion version : VALUES) {
+            max = Math.max(max, version.versionNumber);
+        }
+
+        EMinecraftVersion[] table = new EMinecraftVersion[max - MIN_PROTOCOL + 1];
+        for (EMinecraftVersion version : VALUES) {
+            int index = version.versionNumber - MIN_PROTOCOL;
+            if (version != UNSUPPORTED && table[index] == null) {
+                table[index] = version;
+            }
+        }
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] == null) {
+                table[i] = UNSUPPORTED;
+            }
+        }
+        return table;
+    }
+
+    private static Map<String, EMinecraftVersion> createNameTable() {
+        Map<String, EMinecraftVersion> table = new HashMap<>();
+        for (EMinecraftVersion version : VALUES) {
+            if (version == UNSUPPORTED) {
+                continue;
+            }
+            table.put(version.name().substring(1), version);
+            table.put(version.versionName, version);
+        }
+        return Collections.unmodifiableMap(table);
+    }
+
     /**
      * The NMSVersion enum defines various versions of Minecraft NMS (Net Minecraft Server).
      * Each enum constant is associated with an integer value that signifies the version.
@@ -351,6 +427,11 @@ public enum EMinecraftVersion {
          */
         private final int version;
 
+        /**
+         * The version name, computed once from the constant name.
+         */
+        private final String versionName;
+
         /**
          * Constructs an instance of NMSVersion with the specified version.
          *
@@ -358,6 +439,7 @@ public enum EMinecraftVersion {
          */
         NMSVersion(int version) {
             this.version = version;
+            this.versionName = name().replace("V", "");
         }
 
         /**
@@ -416,7 +498,7 @@ public enum EMinecraftVersion {
          * @return the version name as a string without the leading 'V'.
          */
         public String getVersionName() {
-            return name().replace("V", "");
+            return versionName;
         }
 
         /**
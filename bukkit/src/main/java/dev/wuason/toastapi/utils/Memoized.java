@@ -0,0 +1,64 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A value computed once, on first use, and shared by every thread afterwards.
+ * The supplier is released once the value is computed.
+ *
+ * @param <T> the type of the value, which must not be {@code null}
+ */
+public final class Memoized<T> implements Supplier<T> {
+
+    private Supplier<? extends T> supplier;
+    private volatile T value;
+
+    public Memoized(@NotNull Supplier<? extends T> supplier) {
+        this.supplier = Objects.requireNonNull(supplier, "supplier cannot be null");
+    }
+
+    @Override
+    public T get() {
+        T result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = Objects.requireNonNull(supplier.get(), "memoized value cannot be null");
+                    value = result;
+                    supplier = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the value if it has already been computed, without computing it
+     */
+    @Nullable
+    public T getIfComputed() {
+        return value;
+    }
+}
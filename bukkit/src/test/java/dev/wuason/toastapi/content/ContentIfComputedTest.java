@@ -0,0 +1,58 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.content;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ContentIfComputedTest {
+
+    @Test
+    @DisplayName("Memoizing contents only expose JSON they already produced")
+    void memoizedContent() {
+        TextContent title = new TextContent("&6Quest completed!");
+        assertNull(title.getContentIfComputed());
+
+        String json = title.getContent();
+        assertSame(json, title.getContentIfComputed());
+    }
+
+    @Test
+    @DisplayName("Custom contents are never serialized to answer")
+    void customContent() {
+        AtomicInteger calls = new AtomicInteger();
+        IContent title = () -> {
+            calls.incrementAndGet();
+            return "{\"text\":\"\"}";
+        };
+        IContent cached = title.cached();
+
+        assertNull(title.getContentIfComputed());
+        assertNull(cached.getContentIfComputed());
+        assertEquals(0, calls.get());
+
+        assertEquals(cached.getContent(), cached.getContentIfComputed());
+        assertEquals(1, calls.get());
+    }
+}
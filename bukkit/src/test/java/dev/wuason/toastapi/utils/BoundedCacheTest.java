@@ -0,0 +1,110 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedCacheTest {
+
+    @Test
+    @DisplayName("Second lookup of a key is a hit and does not reload")
+    void hitAfterMiss() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10, 1000, String::length);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(5, cache.get("hello", key -> loads.incrementAndGet() + 4));
+        assertEquals(5, cache.get("hello", key -> loads.incrementAndGet() + 4));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("Least recently used entry is evicted when full")
+    void evictsLeastRecentlyUsed() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2, 1000, String::length);
+        cache.get("a", key -> key);
+        cache.get("b", key -> key);
+        cache.get("a", key -> key);
+        cache.get("c", key -> key);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertEquals("a", cache.get("a", key -> "reloaded"));
+        assertEquals("reloaded", cache.get("b", key -> "reloaded"));
+    }
+
+    @Test
+    @DisplayName("Total weight is bounded and oversized entries are not cached")
+    void boundedByWeight() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 6, String::length);
+        cache.get("abc", key -> key);
+        cache.get("def", key -> key);
+        cache.get("ghi", key -> key);
+
+        assertEquals(2, cache.size());
+        assertEquals(6, cache.weight());
+
+        cache.get("too long", key -> key);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Concurrent lookups keep the cache within its bounds")
+    void concurrentLookups() throws InterruptedException {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(64, 1000, key -> 1L);
+        AtomicInteger wrongValues = new AtomicInteger();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            int seed = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    int key = (i * 31 + seed) % 200;
+                    if (cache.get(key, k -> k * 2) != key * 2) {
+                        wrongValues.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, wrongValues.get());
+        assertTrue(cache.size() <= 64);
+        assertEquals(cache.size(), cache.weight());
+        assertEquals(8 * 20_000, cache.hitCount() + cache.missCount());
+    }
+
+    @Test
+    @DisplayName("Zero max entries disables caching")
+    void disabled() {
+        BoundedCache<String, String> cache = new BoundedCache<>(0, 100, String::length);
+        cache.get("a", key -> key);
+
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.utils;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColorsCompactTest {
+
+    private static final String ALPHABET = "&&&&##0123456789abcdefABCDEFklmnorKLMNORxyz \"\\\n\u0001\u00e9";
+    private static final String[] DECORATIONS = {"bold", "italic", "underlined", "strikethrough", "obfuscated"};
+
+    @Test
+    @DisplayName("Repeated color codes are merged into one segment")
+    void repeatedColor() {
+        assertEquals("{\"text\":\"Hello\",\"color\":\"green\"}", Colors.toJsonTextComponent("&a&aHello", true));
+        assertEquals("{\"text\":\"Hello World\",\"color\":\"green\"}", Colors.toJsonTextComponent("&aHello &aWorld", true));
+    }
+
+    @Test
+    @DisplayName("Redundant format codes do not split segments")
+    void redundantFormat() {
+        String expected = "{\"text\":\"\",\"extra\":[{\"text\":\"A\",\"color\":\"red\"},"
+                + "{\"text\":\"BC\",\"color\":\"red\",\"bold\":true}]}";
+        assertEquals(expected, Colors.toJsonTextComponent("&cA&lB&lC", true));
+    }
+
+    @Test
+    @DisplayName("Hex colors differing only in case are merged")
+    void hexCase() {
+        assertEquals("{\"text\":\"AB\",\"color\":\"#ffaa00\"}", Colors.toJsonTextComponent("&#FFAA00A&#ffaa00B", true));
+    }
+
+    @Test
+    @DisplayName("Compact output renders like the default output and is never longer")
+    void rendersLikeDefault() {
+        Random random = new Random(0x5E9L);
+        for (int run = 0; run < 20_000; run++) {
+            String input = randomInput(random);
+            String json = Colors.toJsonTextComponent(input);
+            String compact = Colors.toJsonTextComponent(input, true);
+
+            assertEquals(render(json), render(compact), input);
+            assertTrue(compact.length() <= json.length(), input);
+        }
+    }
+
+    @Test
+    @DisplayName("Segments render like the JSON output")
+    void segmentsRenderLikeJson() {
+        Random random = new Random(0x5E6L);
+        for (int run = 0; run < 20_000; run++) {
+            String input = randomInput(random);
+            assertEquals(render(Colors.toJsonTextComponent(input)), renderRuns(input), input);
+        }
+    }
+
+    private static List<String> renderRuns(String input) {
+        List<String> glyphs = new ArrayList<>();
+        Colors.forEachRun(input, (text, color, bold, italic, underlined, strikethrough, obfuscated) -> {
+            boolean[] decorations = {bold, italic, underlined, strikethrough, obfuscated};
+            StringBuilder style = new StringBuilder(color == null ? "" : color);
+            for (boolean decoration : decorations) {
+                style.append(decoration ? '1' : '0');
+            }
+            for (int i = 0; i < text.length(); i++) {
+                glyphs.add(text.charAt(i) + "|" + style);
+            }
+        });
+        return glyphs;
+    }
+
+    /**
+     * Flattens a component into one entry per character with its effective style,
+     * applying the inheritance rules of the client.
+     */
+    private static List<String> render(String json) {
+        List<String> glyphs = new ArrayList<>();
+        render(JsonParser.parseString(json).getAsJsonObject(), "", new boolean[DECORATIONS.length], glyphs);
+        return glyphs;
+    }
+
+    private static void render(JsonObject component, String parentColor, boolean[] parentDecorations, List<String> glyphs) {
+        String color = component.has("color") ? component.get("color").getAsString() : parentColor;
+        boolean[] decorations = parentDecorations.clone();
+        for (int i = 0; i < DECORATIONS.length; i++) {
+            if (component.has(DECORATIONS[i])) {
+                decorations[i] = component.get(DECORATIONS[i]).getAsBoolean();
+            }
+        }
+
+        StringBuilder style = new StringBuilder(color);
+        for (boolean decoration : decorations) {
+            style.append(decoration ? '1' : '0');
+        }
+
+        String text = component.get("text").getAsString();
+        for (int i = 0; i < text.length(); i++) {
+            glyphs.add(text.charAt(i) + "|" + style);
+        }
+
+        if (component.has("extra")) {
+            for (JsonElement child : component.getAsJsonArray("extra")) {
+                render(child.getAsJsonObject(), color, decorations, glyphs);
+            }
+        }
+    }
+
+    private static String randomInput(Random random) {
+        int length = random.nextInt(40);
+        StringBuilder input = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return input.toString();
+    }
+}
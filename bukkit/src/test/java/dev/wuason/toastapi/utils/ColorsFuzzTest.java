@@ -0,0 +1,105 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ColorsFuzzTest {
+
+    private static final String ALPHABET = "&&&&##0123456789abcdefABCDEFklmnorKLMNORxyz \"\\\n\t\b\u0001\u001f\u212a\u00e9\ud83d\ude00";
+    private static final int RUNS = 50_000;
+
+    @Test
+    @DisplayName("Streaming writer matches the segment-list implementation on random input")
+    void matchesLegacyImplementation() {
+        Random random = new Random(0x70A57L);
+        for (int run = 0; run < RUNS; run++) {
+            String input = randomInput(random);
+            assertEquals(LegacyColors.toJsonTextComponent(input), Colors.toJsonTextComponent(input), input);
+        }
+    }
+
+    @Test
+    @DisplayName("Appending to a builder or writer gives the same JSON")
+    void appendMatchesToJson() throws IOException {
+        Random random = new Random(0xC0105L);
+        for (int run = 0; run < 1_000; run++) {
+            String input = randomInput(random);
+            String expected = Colors.toJsonTextComponent(input);
+
+            StringBuilder builder = new StringBuilder("prefix");
+            Colors.appendJsonTextComponent(input, builder);
+            assertEquals("prefix" + expected, builder.toString());
+
+            StringWriter writer = new StringWriter();
+            Colors.appendJsonTextComponent(input, writer);
+            assertEquals(expected, writer.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("UTF-8 output matches the bytes of the JSON string")
+    void utf8MatchesString() {
+        Random random = new Random(0xB17E5L);
+        ByteBuffer heap = ByteBuffer.allocate(4096);
+        ByteBuffer direct = ByteBuffer.allocateDirect(4096);
+        for (int run = 0; run < 5_000; run++) {
+            String input = randomInput(random);
+            boolean compact = random.nextBoolean();
+            byte[] expected = Colors.toJsonTextComponent(input, compact).getBytes(StandardCharsets.UTF_8);
+
+            for (ByteBuffer buffer : new ByteBuffer[]{heap, direct}) {
+                buffer.clear();
+                assertEquals(expected.length, Colors.writeJsonTextComponent(input, buffer, compact), input);
+
+                byte[] actual = new byte[buffer.flip().remaining()];
+                buffer.get(actual);
+                assertArrayEquals(expected, actual, input);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("UTF-8 output that does not fit leaves the buffer untouched")
+    void utf8Overflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        assertThrows(BufferOverflowException.class, () -> Colors.writeJsonTextComponent("&aHello", buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    private static String randomInput(Random random) {
+        int length = random.nextInt(40);
+        StringBuilder input = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return input.toString();
+    }
+}
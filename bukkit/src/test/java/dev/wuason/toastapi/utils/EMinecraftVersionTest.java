@@ -0,0 +1,82 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class EMinecraftVersionTest {
+
+    @Test
+    @DisplayName("Protocol table matches a linear scan over every version")
+    void fromVersionNumberMatchesScan() {
+        for (int protocol = -10; protocol <= 1000; protocol++) {
+            assertSame(scan(protocol), EMinecraftVersion.fromVersionNumber(protocol), "protocol " + protocol);
+        }
+        assertSame(EMinecraftVersion.UNSUPPORTED, EMinecraftVersion.fromVersionNumber(Integer.MIN_VALUE));
+        assertSame(EMinecraftVersion.UNSUPPORTED, EMinecraftVersion.fromVersionNumber(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Name table matches the valueOf lookup for dotted, underscored and unknown names")
+    void fromStringMatchesValueOf() {
+        for (EMinecraftVersion version : EMinecraftVersion.values()) {
+            String key = version.name().substring(1);
+            String dotted = key.replace('_', '.');
+            String mixed = key.replaceFirst("_", ".");
+
+            for (String name : new String[]{key, dotted, mixed, version.name(), dotted + ".0", "x" + dotted}) {
+                assertSame(valueOf(name), EMinecraftVersion.fromString(name), name);
+            }
+        }
+
+        assertSame(EMinecraftVersion.V1_21_4, EMinecraftVersion.fromString("1.21.4"));
+        assertSame(EMinecraftVersion.V26_1_2, EMinecraftVersion.fromString("26_1_2"));
+        assertSame(EMinecraftVersion.UNSUPPORTED, EMinecraftVersion.fromString(""));
+        assertSame(EMinecraftVersion.UNSUPPORTED, EMinecraftVersion.fromString("0.0.0"));
+    }
+
+    @Test
+    @DisplayName("Cached version names match the names derived from the constants")
+    void versionNames() {
+        for (EMinecraftVersion version : EMinecraftVersion.values()) {
+            assertEquals(version.name().replace("V", "").replace("_", "."), version.getVersionName());
+        }
+        for (EMinecraftVersion.NMSVersion version : EMinecraftVersion.NMSVersion.values()) {
+            assertEquals(version.name().replace("V", ""), version.getVersionName());
+        }
+    }
+
+    private static EMinecraftVersion scan(int protocol) {
+        for (EMinecraftVersion version : EMinecraftVersion.values()) {
+            if (version.getVersionNumber() == protocol) return version;
+        }
+        return EMinecraftVersion.UNSUPPORTED;
+    }
+
+    private static EMinecraftVersion valueOf(String version) {
+        try {
+            return EMinecraftVersion.valueOf("V" + version.replace(".", "_"));
+        } catch (IllegalArgumentException e) {
+            return EMinecraftVersion.UNSUPPORTED;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *     Copyright (C) 2026 Wuason6x9 and RubenArtz
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.wuason.toastapi.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MemoizedTest {
+
+    @Test
+    @DisplayName("Value is computed once, on first use")
+    void computesOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        Memoized<String> memoized = new Memoized<>(() -> "value" + calls.incrementAndGet());
+
+        assertNull(memoized.getIfComputed());
+        String first = memoized.get();
+        assertSame(first, memoized.get());
+        assertSame(first, memoized.getIfComputed());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Concurrent first calls share one computed value")
+    void concurrentFirstUse() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        Memoized<Object> memoized = new Memoized<>(() -> {
+            calls.incrementAndGet();
+            return new Object();
+        });
+
+        Object[] seen = new Object[8];
+        Thread[] threads = new Thread[seen.length];
+        for (int i = 0; i < threads.length; i++) {
+            int index = i;
+            threads[i] = new Thread(() -> seen[index] = memoized.get());
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, calls.get());
+        for (Object value : seen) {
+            assertSame(seen[0], value);
+        }
+    }
+}
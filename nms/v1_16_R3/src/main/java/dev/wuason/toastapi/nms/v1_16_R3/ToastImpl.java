@@ -17,8 +17,18 @@
 
 package dev.wuason.toastapi.nms.v1_16_R3;
 
+import dev.wuason.toastapi.content.IContent;
+import dev.wuason.toastapi.metrics.ComponentParseEvent;
+import dev.wuason.toastapi.metrics.ContentSerializationEvent;
+import dev.wuason.toastapi.metrics.PacketSendEvent;
+import dev.wuason.toastapi.metrics.ToastMetrics;
+import dev.wuason.toastapi.nms.ComponentCache;
 import dev.wuason.toastapi.nms.EToastType;
+import dev.wuason.toastapi.nms.ICompiledToast;
 import dev.wuason.toastapi.nms.IToastWrapper;
+import dev.wuason.toastapi.nms.IconCache;
+import dev.wuason.toastapi.utils.BoundedCache;
+import io.netty.channel.Channel;
 import net.minecraft.server.v1_16_R3.*;
 import org.bukkit.Material;
 import org.bukkit.craftbukkit.v1_16_R3.entity.CraftPlayer;
@@ -35,7 +45,13 @@ import java.util.Set;
 public class ToastImpl implements IToastWrapper {
 
     private static final String IMPOSSIBLE_KEY = "impossible";
-    private static final String TOAST_DESCRIPTION = ".";
+    private static final IChatBaseComponent TOAST_DESCRIPTION = CraftChatMessage.fromStringOrNull(".");
+    private static final BoundedCache<String, IChatBaseComponent> COMPONENT_CACHE = ComponentCache.create();
+    private static final BoundedCache<Object, net.minecraft.server.v1_16_R3.ItemStack> ICON_CACHE = IconCache.create();
+    private static final net.minecraft.server.v1_16_R3.ItemStack FALLBACK_ICON = createFallbackIcon();
+    private static final Map<String, Criterion> CRITERIA = createCriteria();
+    private static final String[][] REQUIREMENTS = createRequirements();
+    private static final AdvancementProgress GRANTED_PROGRESS = buildGrantedProgress(CRITERIA, REQUIREMENTS);
 
     private static AdvancementFrameType toFrameType(EToastType toastType) {
         return switch (toastType) {
@@ -45,43 +61,68 @@ public class ToastImpl implements IToastWrapper {
         };
     }
 
+    private static IChatBaseComponent parseComponent(String json) {
+        ComponentParseEvent event = new ComponentParseEvent();
+        event.begin();
+        IChatBaseComponent component = COMPONENT_CACHE.get(json, CraftChatMessage::fromJSON);
+        event.complete(json);
+        return component;
+    }
+
     @Override
-    public void sendToast(ItemStack icon, Player player, String title, EToastType toastType, String namespace, String path) {
-        Objects.requireNonNull(player, "player cannot be null");
+    public ICompiledToast compile(ItemStack icon, String title, EToastType toastType, String namespace, String path) {
         Objects.requireNonNull(title, "title cannot be null");
+        long start = System.nanoTime();
+        IChatBaseComponent component = parseComponent(title);
+        ToastMetrics.recordContentSerialization(start);
+        return compile(icon, component, toastType, namespace, path);
+    }
+
+    @Override
+    public ICompiledToast compile(ItemStack icon, IContent title, EToastType toastType, String namespace, String path) {
+        Objects.requireNonNull(title, "title cannot be null");
+        long start = System.nanoTime();
+        ContentSerializationEvent event = new ContentSerializationEvent();
+        event.begin();
+        IChatBaseComponent component = parseComponent(title.getContent());
+        event.complete(title, toastType);
+        ToastMetrics.recordContentSerialization(start);
+        return compile(icon, component, toastType, namespace, path);
+    }
+
+    private ICompiledToast compile(ItemStack icon, IChatBaseComponent title, EToastType toastType, String namespace, String path) {
         Objects.requireNonNull(toastType, "toastType cannot be null");
         Objects.requireNonNull(namespace, "namespace cannot be null");
         Objects.requireNonNull(path, "path cannot be null");
 
-        EntityPlayer serverPlayer = ((CraftPlayer) player).getHandle();
+        long start = System.nanoTime();
         MinecraftKey advancementId = new MinecraftKey(namespace, path);
 
         net.minecraft.server.v1_16_R3.ItemStack nmsIcon = resolveIcon(icon);
         AdvancementDisplay displayInfo = createDisplayInfo(nmsIcon, title, toastType);
 
-        Map<String, Criterion> criteria = createCriteria();
-        String[][] requirements = createRequirements();
-
         Advancement advancement = new Advancement(
                 advancementId,
                 null,
                 displayInfo,
                 AdvancementRewards.a,
-                criteria,
-                requirements
+                CRITERIA,
+                REQUIREMENTS
         );
 
-        AdvancementProgress progress = buildGrantedProgress(criteria, requirements);
-
-        sendGrantPacket(serverPlayer, advancement, advancementId, progress);
-        sendRevokePacket(serverPlayer, advancementId);
+        CompiledToast compiled = new CompiledToast(
+                createGrantPacket(advancement, advancementId, GRANTED_PROGRESS),
+                createRevokePacket(advancementId)
+        );
+        ToastMetrics.recordPacketBuild(start);
+        return compiled;
     }
 
-    private AdvancementDisplay createDisplayInfo(net.minecraft.server.v1_16_R3.ItemStack icon, String title, EToastType toastType) {
+    private AdvancementDisplay createDisplayInfo(net.minecraft.server.v1_16_R3.ItemStack icon, IChatBaseComponent title, EToastType toastType) {
         return new AdvancementDisplay(
                 icon,
-                CraftChatMessage.fromJSON(title),
-                CraftChatMessage.fromStringOrNull(TOAST_DESCRIPTION),
+                title,
+                TOAST_DESCRIPTION,
                 null,
                 toFrameType(toastType),
                 true,
@@ -90,49 +131,74 @@ public class ToastImpl implements IToastWrapper {
         );
     }
 
+    private static net.minecraft.server.v1_16_R3.ItemStack createFallbackIcon() {
+        return CraftItemStack.asNMSCopy(new ItemStack(Material.AIR));
+    }
+
     private net.minecraft.server.v1_16_R3.ItemStack resolveIcon(ItemStack icon) {
-        if (icon != null) {
-            return CraftItemStack.asNMSCopy(icon);
+        if (icon == null) {
+            return FALLBACK_ICON;
         }
-        return CraftItemStack.asNMSCopy(new ItemStack(Material.AIR));
+        return IconCache.get(ICON_CACHE, icon, CraftItemStack::asNMSCopy);
     }
 
-    private Map<String, Criterion> createCriteria() {
+    private static Map<String, Criterion> createCriteria() {
         Criterion criterion = new Criterion(new CriterionTriggerImpossible.a());
         return Map.of(IMPOSSIBLE_KEY, criterion);
     }
 
-    private String[][] createRequirements() {
+    private static String[][] createRequirements() {
         return new String[][]{{IMPOSSIBLE_KEY}};
     }
 
-    private AdvancementProgress buildGrantedProgress(Map<String, Criterion> criteria, String[][] requirements) {
+    private static AdvancementProgress buildGrantedProgress(Map<String, Criterion> criteria, String[][] requirements) {
         AdvancementProgress progress = new AdvancementProgress();
         progress.a(criteria, requirements);
         progress.getCriterionProgress(IMPOSSIBLE_KEY).b();
         return progress;
     }
 
-    private void sendGrantPacket(EntityPlayer serverPlayer,
-                                 Advancement advancement,
-                                 MinecraftKey advancementId,
-                                 AdvancementProgress progress) {
-        PacketPlayOutAdvancements packet = new PacketPlayOutAdvancements(
+    private PacketPlayOutAdvancements createGrantPacket(Advancement advancement,
+                                                        MinecraftKey advancementId,
+                                                        AdvancementProgress progress) {
+        return new PacketPlayOutAdvancements(
                 false,
                 List.of(advancement),
                 Set.of(),
                 Map.of(advancementId, progress)
         );
-        serverPlayer.playerConnection.sendPacket(packet);
     }
 
-    private void sendRevokePacket(EntityPlayer serverPlayer, MinecraftKey advancementId) {
-        PacketPlayOutAdvancements packet = new PacketPlayOutAdvancements(
+    private PacketPlayOutAdvancements createRevokePacket(MinecraftKey advancementId) {
+        return new PacketPlayOutAdvancements(
                 false,
                 List.of(),
                 Set.of(advancementId),
                 Map.of()
         );
-        serverPlayer.playerConnection.sendPacket(packet);
+    }
+
+    /**
+     * Bundle packets do not exist on 1.16.5, so grant and revoke are written to the channel
+     * one after the other and flushed once.
+     */
+    private record CompiledToast(PacketPlayOutAdvancements grantPacket,
+                                 PacketPlayOutAdvancements revokePacket) implements ICompiledToast {
+
+        @Override
+        public void send(Player player) {
+            PacketSendEvent event = new PacketSendEvent();
+            event.begin();
+            PlayerConnection connection = ((CraftPlayer) player).getHandle().playerConnection;
+            Channel channel = connection.networkManager.channel;
+            if (channel == null) {
+                connection.sendPacket(grantPacket);
+                connection.sendPacket(revokePacket);
+            } else {
+                channel.write(grantPacket);
+                channel.writeAndFlush(revokePacket);
+            }
+            event.complete(player, 2);
+        }
     }
 }
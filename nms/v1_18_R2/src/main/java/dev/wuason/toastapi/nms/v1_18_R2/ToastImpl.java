@@ -17,11 +17,38 @@
 
 package dev.wuason.toastapi.nms.v1_18_R2;
 
+import dev.wuason.toastapi.content.IAdventureContent;
+import dev.wuason.toastapi.content.IContent;
+import dev.wuason.toastapi.content.ISegmentedContent;
+import dev.wuason.toastapi.content.TextSegment;
+import dev.wuason.toastapi.metrics.ComponentParseEvent;
+import dev.wuason.toastapi.metrics.ContentSerializationEvent;
+import dev.wuason.toastapi.metrics.PacketSendEvent;
+import dev.wuason.toastapi.metrics.ToastMetrics;
+import dev.wuason.toastapi.nms.ComponentCache;
 import dev.wuason.toastapi.nms.EToastType;
+import dev.wuason.toastapi.nms.ICompiledToast;
 import dev.wuason.toastapi.nms.IToastWrapper;
+import dev.wuason.toastapi.nms.IconCache;
+import dev.wuason.toastapi.nms.PaperAdventureSupport;
+import dev.wuason.toastapi.utils.BoundedCache;
+import dev.wuason.toastapi.utils.Memoized;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.papermc.paper.adventure.PaperAdventure;
+import net.minecraft.ChatFormatting;
 import net.minecraft.advancements.*;
 import net.minecraft.advancements.critereon.ImpossibleTrigger;
+import net.minecraft.network.ConnectionProtocol;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.network.chat.Style;
+import net.minecraft.network.chat.TextColor;
+import net.minecraft.network.chat.TextComponent;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.PacketFlow;
 import net.minecraft.network.protocol.game.ClientboundUpdateAdvancementsPacket;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -31,6 +58,8 @@ import org.bukkit.craftbukkit.v1_18_R2.inventory.CraftItemStack;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,14 +68,68 @@ import java.util.Set;
 public class ToastImpl implements IToastWrapper {
 
     private static final String IMPOSSIBLE_KEY = "impossible";
+    private static final Component TOAST_DESCRIPTION = Component.nullToEmpty(".");
+    private static final BoundedCache<String, Component> COMPONENT_CACHE = ComponentCache.create();
+    private static final BoundedCache<Object, net.minecraft.world.item.ItemStack> ICON_CACHE = IconCache.create();
+    private static final net.minecraft.world.item.ItemStack FALLBACK_ICON = createFallbackIcon();
+    private static final Map<String, Criterion> CRITERIA = createCriteria();
+    private static final String[][] REQUIREMENTS = createRequirements();
+    private static final AdvancementProgress GRANTED_PROGRESS = buildGrantedProgress(CRITERIA, REQUIREMENTS);
 
     private static Component parseComponent(String json) {
+        ComponentParseEvent event = new ComponentParseEvent();
+        event.begin();
+        Component component = COMPONENT_CACHE.get(json, ToastImpl::decodeComponent);
+        event.complete(json);
+        return component;
+    }
+
+    private static Component decodeComponent(String json) {
         return Objects.requireNonNull(
                 Component.Serializer.fromJson(json),
                 "Invalid component JSON: " + json
         );
     }
 
+    private static Component toComponent(IContent title) {
+        if (title instanceof IAdventureContent adventure && PaperAdventureSupport.isAvailable()) {
+            return PaperAdventure.asVanilla(adventure.getComponent());
+        }
+        if (title instanceof ISegmentedContent segmented) {
+            return toComponent(segmented.getSegments());
+        }
+        return parseComponent(title.getContent());
+    }
+
+    private static Component toComponent(List<TextSegment> segments) {
+        if (segments.size() == 1) {
+            return toComponent(segments.get(0));
+        }
+
+        MutableComponent root = new TextComponent("");
+        for (TextSegment segment : segments) {
+            root.append(toComponent(segment));
+        }
+        return root;
+    }
+
+    private static MutableComponent toComponent(TextSegment segment) {
+        Style style = Style.EMPTY;
+        if (segment.isHexColor()) {
+            style = style.withColor(TextColor.fromRgb(segment.rgb()));
+        } else if (segment.color() != null) {
+            style = style.withColor(ChatFormatting.getByName(segment.color()));
+        }
+
+        if (segment.bold()) style = style.applyFormat(ChatFormatting.BOLD);
+        if (segment.italic()) style = style.applyFormat(ChatFormatting.ITALIC);
+        if (segment.underlined()) style = style.applyFormat(ChatFormatting.UNDERLINE);
+        if (segment.strikethrough()) style = style.applyFormat(ChatFormatting.STRIKETHROUGH);
+        if (segment.obfuscated()) style = style.applyFormat(ChatFormatting.OBFUSCATED);
+
+        return new TextComponent(segment.text()).withStyle(style);
+    }
+
     private static FrameType toFrameType(EToastType toastType) {
         return switch (toastType) {
             case TASK -> FrameType.TASK;
@@ -56,42 +139,60 @@ public class ToastImpl implements IToastWrapper {
     }
 
     @Override
-    public void sendToast(ItemStack icon, Player player, String title, EToastType toastType, String namespace, String path) {
-        Objects.requireNonNull(player, "player cannot be null");
+    public ICompiledToast compile(ItemStack icon, String title, EToastType toastType, String namespace, String path) {
+        Objects.requireNonNull(title, "title cannot be null");
+        long start = System.nanoTime();
+        Component component = parseComponent(title);
+        ToastMetrics.recordContentSerialization(start);
+        return compile(icon, component, toastType, namespace, path);
+    }
+
+    @Override
+    public ICompiledToast compile(ItemStack icon, IContent title, EToastType toastType, String namespace, String path) {
+        Objects.requireNonNull(title, "title cannot be null");
+        long start = System.nanoTime();
+        ContentSerializationEvent event = new ContentSerializationEvent();
+        event.begin();
+        Component component = toComponent(title);
+        event.complete(title, toastType);
+        ToastMetrics.recordContentSerialization(start);
+        return compile(icon, component, toastType, namespace, path);
+    }
+
+    private ICompiledToast compile(ItemStack icon, Component title, EToastType toastType, String namespace, String path) {
         Objects.requireNonNull(title, "title cannot be null");
         Objects.requireNonNull(toastType, "toastType cannot be null");
         Objects.requireNonNull(namespace, "namespace cannot be null");
         Objects.requireNonNull(path, "path cannot be null");
 
-        ServerPlayer serverPlayer = ((CraftPlayer) player).getHandle();
+        long start = System.nanoTime();
         ResourceLocation advancementId = new ResourceLocation(namespace, path);
 
         net.minecraft.world.item.ItemStack nmsIcon = resolveIcon(icon);
         DisplayInfo displayInfo = createDisplayInfo(nmsIcon, title, toastType);
 
-        Map<String, Criterion> criteria = createCriteria();
-        String[][] requirements = createRequirements();
-
         Advancement advancement = new Advancement(
                 advancementId,
                 null,
                 displayInfo,
                 AdvancementRewards.EMPTY,
-                criteria,
-                requirements
+                CRITERIA,
+                REQUIREMENTS
         );
 
-        AdvancementProgress progress = buildGrantedProgress(criteria, requirements);
-
-        sendGrantPacket(serverPlayer, advancement, advancementId, progress);
-        sendRevokePacket(serverPlayer, advancementId);
+        CompiledToast compiled = new CompiledToast(
+                createGrantPacket(advancement, advancementId, GRANTED_PROGRESS),
+                createRevokePacket(advancementId)
+        );
+        ToastMetrics.recordPacketBuild(start);
+        return compiled;
     }
 
-    private DisplayInfo createDisplayInfo(net.minecraft.world.item.ItemStack icon, String title, EToastType toastType) {
+    private DisplayInfo createDisplayInfo(net.minecraft.world.item.ItemStack icon, Component title, EToastType toastType) {
         return new DisplayInfo(
                 icon,
-                parseComponent(title),
-                Component.nullToEmpty("."),
+                title,
+                TOAST_DESCRIPTION,
                 null,
                 toFrameType(toastType),
                 true,
@@ -100,49 +201,109 @@ public class ToastImpl implements IToastWrapper {
         );
     }
 
+    private static net.minecraft.world.item.ItemStack createFallbackIcon() {
+        return CraftItemStack.asNMSCopy(new ItemStack(Material.AIR));
+    }
+
     private net.minecraft.world.item.ItemStack resolveIcon(ItemStack icon) {
-        if (icon != null) {
-            return CraftItemStack.asNMSCopy(icon);
+        if (icon == null) {
+            return FALLBACK_ICON;
         }
-        return CraftItemStack.asNMSCopy(new ItemStack(Material.AIR));
+        return IconCache.get(ICON_CACHE, icon, CraftItemStack::asNMSCopy);
     }
 
-    private Map<String, Criterion> createCriteria() {
+    private static Map<String, Criterion> createCriteria() {
         Criterion criterion = new Criterion(new ImpossibleTrigger.TriggerInstance());
         return Map.of(IMPOSSIBLE_KEY, criterion);
     }
 
-    private String[][] createRequirements() {
+    private static String[][] createRequirements() {
         return new String[][]{{IMPOSSIBLE_KEY}};
     }
 
-    private AdvancementProgress buildGrantedProgress(Map<String, Criterion> criteria, String[][] requirements) {
+    private static AdvancementProgress buildGrantedProgress(Map<String, Criterion> criteria, String[][] requirements) {
         AdvancementProgress progress = new AdvancementProgress();
         progress.update(criteria, requirements);
         progress.getCriterion(IMPOSSIBLE_KEY).grant();
         return progress;
     }
 
-    private void sendGrantPacket(ServerPlayer serverPlayer,
-                                 Advancement advancement,
-                                 ResourceLocation advancementId,
-                                 AdvancementProgress progress) {
-        ClientboundUpdateAdvancementsPacket packet = new ClientboundUpdateAdvancementsPacket(
+    private ClientboundUpdateAdvancementsPacket createGrantPacket(Advancement advancement,
+                                                                  ResourceLocation advancementId,
+                                                                  AdvancementProgress progress) {
+        return new ClientboundUpdateAdvancementsPacket(
                 false,
                 List.of(advancement),
                 Set.of(),
                 Map.of(advancementId, progress)
         );
-        serverPlayer.connection.send(packet);
     }
 
-    private void sendRevokePacket(ServerPlayer serverPlayer, ResourceLocation advancementId) {
-        ClientboundUpdateAdvancementsPacket packet = new ClientboundUpdateAdvancementsPacket(
+    private ClientboundUpdateAdvancementsPacket createRevokePacket(ResourceLocation advancementId) {
+        return new ClientboundUpdateAdvancementsPacket(
                 false,
                 List.of(),
                 Set.of(advancementId),
                 Map.of()
         );
-        serverPlayer.connection.send(packet);
+    }
+
+    private static ByteBuf encode(Packet<?> packet) {
+        ByteBuf buffer = Unpooled.buffer();
+        FriendlyByteBuf friendly = new FriendlyByteBuf(buffer);
+        friendly.writeVarInt(ConnectionProtocol.PLAY.getPacketId(PacketFlow.CLIENTBOUND, packet));
+        packet.write(friendly);
+        return buffer.asReadOnly();
+    }
+
+    /**
+     * Bundle packets only exist from 1.19.4 on, so grant and revoke are written to the channel
+     * one after the other and flushed once. {@code frames} holds both packets encoded once,
+     * on the first pre-encoded send.
+     */
+    private record CompiledToast(ClientboundUpdateAdvancementsPacket grantPacket,
+                                 ClientboundUpdateAdvancementsPacket revokePacket,
+                                 Memoized<ByteBuf[]> frames) implements ICompiledToast {
+
+        private CompiledToast(ClientboundUpdateAdvancementsPacket grantPacket,
+                              ClientboundUpdateAdvancementsPacket revokePacket) {
+            this(grantPacket, revokePacket,
+                    new Memoized<>(() -> new ByteBuf[]{encode(grantPacket), encode(revokePacket)}));
+        }
+
+        @Override
+        public void send(Player player) {
+            PacketSendEvent event = new PacketSendEvent();
+            event.begin();
+            ServerPlayer serverPlayer = ((CraftPlayer) player).getHandle();
+            Channel channel = serverPlayer.connection.connection.channel;
+            if (channel == null) {
+                serverPlayer.connection.send(grantPacket);
+                serverPlayer.connection.send(revokePacket);
+            } else {
+                channel.write(grantPacket);
+                channel.writeAndFlush(revokePacket);
+            }
+            event.complete(player, 2);
+        }
+
+        @Override
+        public void sendEncoded(Collection<? extends Player> players) {
+            ByteBuf[] encoded = frames.get();
+            for (Player player : players) {
+                Channel channel = ((CraftPlayer) player).getHandle().connection.connection.channel;
+                if (channel == null) {
+                    send(player);
+                    continue;
+                }
+                PacketSendEvent event = new PacketSendEvent();
+                event.begin();
+                for (ByteBuf frame : encoded) {
+                    channel.write(frame.retainedDuplicate());
+                }
+                channel.flush();
+                event.complete(player, encoded.length);
+            }
+        }
     }
 }
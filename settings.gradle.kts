@@ -26,6 +26,7 @@ pluginManagement {
 
 include(
     "bukkit",
+    "benchmarks",
     "nms:v1_16_R3",
     "nms:v1_17_R1",
     "nms:v1_18_R1",